@@ -0,0 +1,48 @@
+package com.uniflow.academic.config;
+
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.uniflow.academic.shared.infrastructure.security.GoogleAuthProperties;
+import com.uniflow.academic.shared.infrastructure.security.ResourceJwkSetSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+
+/**
+ * Configuración de la validación de tokens de Google
+ */
+@Configuration
+@EnableConfigurationProperties(GoogleAuthProperties.class)
+public class GoogleAuthConfig {
+
+    /**
+     * Llaves públicas de Google para verificar ID tokens
+     * Se cachean y se refrescan en segundo plano antes de expirar
+     * Un bean con el mismo nombre reemplaza el origen (tests, stubs)
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "googleJwkSource")
+    public JWKSource<SecurityContext> googleJwkSource(
+            GoogleAuthProperties properties,
+            ResourceLoader resourceLoader
+    ) throws MalformedURLException {
+        GoogleAuthProperties.Jwks jwks = properties.getJwks();
+        String uri = jwks.getUri();
+
+        JWKSourceBuilder<SecurityContext> builder = uri.startsWith("http")
+                ? JWKSourceBuilder.create(URI.create(uri).toURL())
+                : JWKSourceBuilder.create(new ResourceJwkSetSource(resourceLoader.getResource(uri)));
+
+        return builder
+                .cache(jwks.getCacheTtl().toMillis(), jwks.getRefreshTimeout().toMillis())
+                .refreshAheadCache(jwks.getRefreshAhead().toMillis(), true)
+                .retrying(true)
+                .build();
+    }
+}
@@ -6,7 +6,8 @@ public interface DeletePeriodCommand {
      *
      * @param periodId The period to delete
      * @param studentId The student ID making the request
-     * @throws IllegalStateException if period has associated subjects
+     * @param force Also delete the subjects of the period
+     * @throws IllegalStateException if period has associated subjects and force is false
      */
-    void execute(String periodId, String studentId);
+    void execute(String periodId, String studentId, boolean force);
 }
@@ -14,7 +14,7 @@ public interface GetAllPeriodsQuery {
      * Get all periods for a student with optional filters and pagination
      *
      * @param studentId The student ID
-     * @param params Pagination parameters (page, limit)
+     * @param params Pagination parameters (page, limit or after cursor)
      * @param filter Optional filters (type, year, isActive)
      * @return Paginated periods response
      */
@@ -46,6 +46,7 @@ public interface GetAllPeriodsQuery {
             private Integer totalPages;
             private Boolean hasNext;
             private Boolean hasPrevious;
+            private String nextCursor;
         }
     }
 }
\ No newline at end of file
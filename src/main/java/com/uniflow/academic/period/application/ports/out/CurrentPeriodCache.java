@@ -0,0 +1,27 @@
+package com.uniflow.academic.period.application.ports.out;
+
+import com.uniflow.academic.period.domain.Period;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+public interface CurrentPeriodCache {
+    /**
+     * Get the cached active period of a student, loading it on a miss.
+     * "No active period" is cached too.
+     *
+     * @param studentId The student ID
+     * @param loader Loads the active period from persistence on a miss
+     * @return Optional containing the active period if any
+     */
+    Optional<Period> get(String studentId, Function<String, Optional<Period>> loader);
+
+    /**
+     * Drop the cached entry for a student.
+     * Inside a transaction the entry is dropped again after commit, so a
+     * read that raced with the write cannot keep the old value.
+     *
+     * @param studentId The student ID
+     */
+    void evict(String studentId);
+}
@@ -3,7 +3,9 @@ package com.uniflow.academic.period.application.ports.out;
 import com.uniflow.academic.period.domain.Period;
 import com.uniflow.academic.period.application.ports.out.dto.PeriodFilter;
 import com.uniflow.academic.period.application.ports.out.dto.PaginationParams;
+import com.uniflow.academic.period.application.ports.out.dto.PeriodStatisticsResponse;
 import com.uniflow.academic.period.application.ports.in.GetAllPeriodsQuery;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +26,16 @@ public interface PeriodRepository {
      */
     Period update(Period period);
 
+    /**
+     * Make a period the only active one for its student in a single statement
+     *
+     * @param periodId The period to activate
+     * @param studentId The student ID (for data isolation)
+     * @return false if the period does not exist for the student
+     * @throws IllegalStateException if another activation for the student committed concurrently
+     */
+    boolean activateExclusively(String periodId, String studentId);
+
     /**
      * Find a period by ID and student ID
      *
@@ -33,6 +45,15 @@ public interface PeriodRepository {
      */
     Optional<Period> findById(String periodId, String studentId);
 
+    /**
+     * Find a period and lock its row until the end of the transaction
+     *
+     * @param periodId The period ID
+     * @param studentId The student ID (for data isolation)
+     * @return Optional containing the period if found
+     */
+    Optional<Period> findByIdForUpdate(String periodId, String studentId);
+
     /**
      * Find all periods for a student with filters and pagination
      *
@@ -47,6 +68,15 @@ public interface PeriodRepository {
             PeriodFilter filter
     );
 
+    /**
+     * Aggregate statistics over all periods of a student
+     *
+     * @param studentId The student ID
+     * @param today Reference date for current/upcoming/finished
+     * @return Statistics computed by the database
+     */
+    PeriodStatisticsResponse getStatistics(String studentId, LocalDate today);
+
     /**
      * Find the currently active period for a student
      *
@@ -64,20 +94,22 @@ public interface PeriodRepository {
     List<Period> findAllActive(String studentId);
 
     /**
-     * Delete a period
+     * Delete a period in a single statement, only if it has no subjects
      *
      * @param periodId The period ID
      * @param studentId The student ID (for authorization)
+     * @return The deleted period; empty if it does not exist for the student or still has subjects
      */
-    void delete(String periodId, String studentId);
+    Optional<Period> deleteIfUnused(String periodId, String studentId);
 
     /**
-     * Check if period has associated subjects
+     * Delete a period in a single statement; its subjects are removed by the database cascade
      *
      * @param periodId The period ID
-     * @return true if period has subjects
+     * @param studentId The student ID (for authorization)
+     * @return The deleted period; empty if it does not exist for the student
      */
-    boolean hasAssociatedSubjects(String periodId);
+    Optional<Period> deleteWithSubjects(String periodId, String studentId);
 
     /**
      * Check if period exists for student
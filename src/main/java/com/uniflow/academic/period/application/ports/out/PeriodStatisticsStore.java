@@ -0,0 +1,40 @@
+package com.uniflow.academic.period.application.ports.out;
+
+import com.uniflow.academic.period.application.ports.out.dto.PeriodStatisticsResponse;
+import com.uniflow.academic.period.domain.Period;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Per-student period statistics kept up to date by the write use cases.
+ */
+public interface PeriodStatisticsStore {
+
+    /**
+     * Read the counters of a student, resolving date based counters against today
+     *
+     * @return Empty if the student has no counters yet
+     */
+    Optional<PeriodStatisticsResponse> find(String studentId, LocalDate today);
+
+    /**
+     * Apply a period change to the counters, in the caller's transaction
+     *
+     * @param before The period before the change; null on create
+     * @param after The period after the change; null on delete
+     */
+    void record(Period before, Period after);
+
+    /**
+     * Record that the student now has exactly one active period
+     */
+    void recordActivation(String studentId);
+
+    /**
+     * Recompute every student's counters from the periods table
+     *
+     * @return Number of students rebuilt
+     */
+    int rebuild();
+}
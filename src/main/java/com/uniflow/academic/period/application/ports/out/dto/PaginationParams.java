@@ -7,6 +7,8 @@ import lombok.NoArgsConstructor;
 
 /**
  * DTO for pagination parameters.
+ * Offset mode uses page/limit. Cursor mode is enabled when {@code after}
+ * is present (empty for the first page) and ignores page.
  */
 @Getter
 @NoArgsConstructor
@@ -19,6 +21,8 @@ public class PaginationParams {
     @Builder.Default
     private Integer limit = 10;
 
+    private String after;
+
     public void validate() {
         if (page == null || page < 1) {
             this.page = 1;
@@ -28,6 +32,14 @@ public class PaginationParams {
         }
     }
 
+    public boolean isCursorMode() {
+        return after != null;
+    }
+
+    public boolean hasCursor() {
+        return after != null && !after.isBlank();
+    }
+
     public Integer getOffset() {
         validate();
         return (page - 1) * limit;
@@ -0,0 +1,56 @@
+package com.uniflow.academic.period.application.ports.out.dto;
+
+import com.uniflow.academic.period.domain.exception.InvalidPeriodException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for period listing.
+ * Encodes the (startDate, id) of the last period returned, in the
+ * same order used by the listing: start_date DESC, id DESC.
+ */
+@Getter
+@AllArgsConstructor
+public class PeriodCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private LocalDate startDate;
+    private String id;
+
+    /**
+     * Encode the cursor as base64url text safe for query strings
+     */
+    public String encode() {
+        String raw = startDate.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor received from a client
+     *
+     * @throws InvalidPeriodException if the cursor was not produced by {@link #encode()}
+     */
+    public static PeriodCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new InvalidPeriodException("Invalid pagination cursor");
+            }
+            return new PeriodCursor(
+                    LocalDate.parse(raw.substring(0, separator)),
+                    raw.substring(separator + 1)
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidPeriodException("Invalid pagination cursor", e);
+        }
+    }
+}
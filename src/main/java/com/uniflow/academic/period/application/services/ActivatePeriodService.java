@@ -1,19 +1,20 @@
 package com.uniflow.academic.period.application.services;
 
 import com.uniflow.academic.period.application.ports.in.ActivatePeriodCommand;
+import com.uniflow.academic.period.application.ports.out.CurrentPeriodCache;
 import com.uniflow.academic.period.application.ports.out.PeriodRepository;
+import com.uniflow.academic.period.application.ports.out.PeriodStatisticsStore;
 import com.uniflow.academic.period.domain.exception.PeriodNotFoundException;
 import com.uniflow.academic.period.domain.Period;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * Service implementation for activating academic periods.
  * Use case: Activate a period (deactivates all others for the student)
+ * The switch is a single UPDATE; the database guarantees one active period per student
  */
 @Slf4j
 @Service
@@ -22,6 +23,8 @@ import java.util.List;
 public class ActivatePeriodService implements ActivatePeriodCommand {
 
     private final PeriodRepository periodRepository;
+    private final CurrentPeriodCache currentPeriodCache;
+    private final PeriodStatisticsStore periodStatisticsStore;
 
     @Override
     public Period execute(String periodId, String studentId) {
@@ -31,33 +34,17 @@ public class ActivatePeriodService implements ActivatePeriodCommand {
                 studentId
         );
 
-        // Fetch the period to activate
-        Period periodToActivate =
-                periodRepository.findById(periodId, studentId)
-                        .orElseThrow(() -> new PeriodNotFoundException(
-                                "Period not found: " + periodId
-                        ));
-
-        // Deactivate all currently active periods for this student
-        List<Period> activePerods = periodRepository.findAllActive(studentId);
-        for (Period activePeriod : activePerods) {
-            if (!activePeriod.getId().equals(periodId)) {
-                Period deactivated = activePeriod.toBuilder()
-                        .isActive(false)
-                        .updatedAt(LocalDateTime.now())
-                        .build();
-                periodRepository.update(deactivated);
-                log.debug("Deactivated period: {}", activePeriod.getId());
-            }
+        // Activate the target and deactivate the others in one statement
+        if (!periodRepository.activateExclusively(periodId, studentId)) {
+            throw new PeriodNotFoundException("Period not found: " + periodId);
         }
+        periodStatisticsStore.recordActivation(studentId);
+        currentPeriodCache.evict(studentId);
 
-        // Activate the target period
-        Period activatedPeriod = periodToActivate.toBuilder()
-                .isActive(true)
-                .updatedAt(LocalDateTime.now())
-                .build();
-
-        Period result = periodRepository.update(activatedPeriod);
+        Period result = periodRepository.findById(periodId, studentId)
+                .orElseThrow(() -> new PeriodNotFoundException(
+                        "Period not found: " + periodId
+                ));
         log.info("Period activated successfully: {}", periodId);
 
         return result;
@@ -1,7 +1,9 @@
 package com.uniflow.academic.period.application.services;
 
 import com.uniflow.academic.period.application.ports.in.CreatePeriodCommand;
+import com.uniflow.academic.period.application.ports.out.CurrentPeriodCache;
 import com.uniflow.academic.period.application.ports.out.PeriodRepository;
+import com.uniflow.academic.period.application.ports.out.PeriodStatisticsStore;
 import com.uniflow.academic.period.domain.exception.InvalidPeriodException;
 import com.uniflow.academic.period.domain.Period;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 public class CreatePeriodService implements CreatePeriodCommand {
 
     private final PeriodRepository periodRepository;
+    private final CurrentPeriodCache currentPeriodCache;
+    private final PeriodStatisticsStore periodStatisticsStore;
 
     @Override
     public Period execute(CreatePeriodRequest request, String studentId) {
@@ -42,6 +46,11 @@ public class CreatePeriodService implements CreatePeriodCommand {
 
             // Persist period
             Period savedPeriod = periodRepository.save(period);
+            periodStatisticsStore.record(null, savedPeriod);
+            // New periods start inactive; only an active one changes the current period
+            if (Boolean.TRUE.equals(savedPeriod.getIsActive())) {
+                currentPeriodCache.evict(studentId);
+            }
             log.info("Period created successfully with id: {}", savedPeriod.getId());
 
             return savedPeriod;
@@ -1,16 +1,23 @@
 package com.uniflow.academic.period.application.services;
 
 import com.uniflow.academic.period.application.ports.in.DeletePeriodCommand;
+import com.uniflow.academic.period.application.ports.out.CurrentPeriodCache;
 import com.uniflow.academic.period.application.ports.out.PeriodRepository;
+import com.uniflow.academic.period.application.ports.out.PeriodStatisticsStore;
 import com.uniflow.academic.period.domain.exception.PeriodNotFoundException;
+import com.uniflow.academic.period.domain.Period;
+import com.uniflow.academic.subject.application.ports.in.ForgetPeriodSubjectsCommand;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 /**
  * Service implementation for deleting academic periods.
- * Use case: Delete a period if it has no associated subjects
+ * Use case: Delete a period if it has no associated subjects,
+ * or together with its subjects when forced
  */
 @Slf4j
 @Service
@@ -19,30 +26,45 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeletePeriodService implements DeletePeriodCommand {
 
     private final PeriodRepository periodRepository;
+    private final CurrentPeriodCache currentPeriodCache;
+    private final PeriodStatisticsStore periodStatisticsStore;
+    private final ForgetPeriodSubjectsCommand forgetPeriodSubjectsCommand;
 
     @Override
-    public void execute(String periodId, String studentId) {
+    public void execute(String periodId, String studentId, boolean force) {
         log.info(
-                "Deleting period: {} for student: {}",
+                "Deleting period: {} for student: {} (force: {})",
                 periodId,
-                studentId
+                studentId,
+                force
         );
 
-        // Verify period exists and belongs to student
-        if (!periodRepository.existsByIdAndStudentId(periodId, studentId)) {
-            throw new PeriodNotFoundException(
-                    "Period not found: " + periodId
-            );
+        // Ownership and the subjects check run inside the DELETE; the deleted row feeds the statistics
+        Optional<Period> deleted = force
+                ? periodRepository.deleteWithSubjects(periodId, studentId)
+                : periodRepository.deleteIfUnused(periodId, studentId);
+        Period period = deleted.orElseThrow(() -> rejection(periodId, studentId, force));
+
+        periodStatisticsStore.record(period, null);
+        if (force) {
+            forgetPeriodSubjectsCommand.execute(periodId, studentId);
         }
+        // The deleted period may have been the active one
+        currentPeriodCache.evict(studentId);
+        log.info("Period deleted successfully: {}", periodId);
+    }
 
-        // Check if period has associated subjects
-        if (periodRepository.hasAssociatedSubjects(periodId)) {
-            throw new IllegalStateException(
+    /**
+     * Nothing was deleted: tell a missing period from one that still has subjects
+     */
+    private RuntimeException rejection(String periodId, String studentId, boolean force) {
+        if (!force && periodRepository.existsByIdAndStudentId(periodId, studentId)) {
+            return new IllegalStateException(
                     "Cannot delete period with associated subjects"
             );
         }
-
-        periodRepository.delete(periodId, studentId);
-        log.info("Period deleted successfully: {}", periodId);
+        return new PeriodNotFoundException(
+                "Period not found: " + periodId
+        );
     }
 }
@@ -43,11 +43,19 @@ public class GetAllPeriodsService implements GetAllPeriodsQuery {
                 filter
         );
 
-        log.info(
-                "Retrieved {} periods out of {} total",
-                response.getData().size(),
-                response.getPagination().getTotal()
-        );
+        if (params.isCursorMode()) {
+            log.info(
+                    "Retrieved {} periods, hasNext: {}",
+                    response.getData().size(),
+                    response.getPagination().getHasNext()
+            );
+        } else {
+            log.info(
+                    "Retrieved {} periods out of {} total",
+                    response.getData().size(),
+                    response.getPagination().getTotal()
+            );
+        }
 
         return response;
     }
@@ -1,6 +1,7 @@
 package com.uniflow.academic.period.application.services;
 
 import com.uniflow.academic.period.application.ports.in.GetCurrentPeriodQuery;
+import com.uniflow.academic.period.application.ports.out.CurrentPeriodCache;
 import com.uniflow.academic.period.application.ports.out.PeriodRepository;
 import com.uniflow.academic.period.domain.exception.PeriodNotFoundException;
 import com.uniflow.academic.period.domain.Period;
@@ -12,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 /**
  * Service implementation for retrieving the current active period.
  * Use case: Get the currently active period for a student
+ * Served from CurrentPeriodCache; write services evict it
  */
 @Slf4j
 @Service
@@ -20,12 +22,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class GetCurrentPeriodService implements GetCurrentPeriodQuery {
 
     private final PeriodRepository periodRepository;
+    private final CurrentPeriodCache currentPeriodCache;
 
     @Override
     public Period execute(String studentId) {
         log.info("Fetching current active period for student: {}", studentId);
 
-        Period currentPeriod = periodRepository.findCurrentActive(studentId)
+        Period currentPeriod = currentPeriodCache.get(studentId, periodRepository::findCurrentActive)
                 .orElseThrow(() -> {
                     log.warn(
                             "No active period found for student: {}",
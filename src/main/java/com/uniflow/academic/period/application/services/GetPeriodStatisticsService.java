@@ -2,22 +2,19 @@ package com.uniflow.academic.period.application.services;
 
 import com.uniflow.academic.period.application.ports.in.GetPeriodStatisticsQuery;
 import com.uniflow.academic.period.application.ports.out.PeriodRepository;
-import com.uniflow.academic.period.application.ports.out.dto.PaginationParams;
+import com.uniflow.academic.period.application.ports.out.PeriodStatisticsStore;
 import com.uniflow.academic.period.application.ports.out.dto.PeriodStatisticsResponse;
-import com.uniflow.academic.period.domain.Period;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.time.LocalDate;
 
 /**
  * Service implementation for period statistics.
  * Use case: Calculate and retrieve statistics about a student's periods
+ * Reads the counters maintained on write; students without counters yet
+ * fall back to aggregating all their periods in the database
  */
 @Slf4j
 @Service
@@ -26,72 +23,23 @@ import java.util.stream.Collectors;
 public class GetPeriodStatisticsService implements GetPeriodStatisticsQuery {
 
     private final PeriodRepository periodRepository;
+    private final PeriodStatisticsStore periodStatisticsStore;
 
     @Override
     public PeriodStatisticsResponse execute(String studentId) {
         log.info("Calculating period statistics for student: {}", studentId);
 
-        // Fetch all periods (use pagination internally or get all)
-        List<Period> allPeriods = periodRepository.findAll(
-                studentId,
-                new PaginationParams(),
-                null
-        ).getData();
-
-        long total = allPeriods.size();
-        LocalDateTime now = LocalDateTime.now();
-
-        // Count statistics
-        long active = allPeriods.stream()
-                .filter(Period::getIsActive)
-                .count();
-
-        long current = allPeriods.stream()
-                .filter(p -> p.getStartDate().isBefore(now.toLocalDate())
-                        && p.getEndDate().isAfter(now.toLocalDate()))
-                .count();
-
-        long upcoming = allPeriods.stream()
-                .filter(p -> p.getStartDate().isAfter(now.toLocalDate()))
-                .count();
-
-        long finished = allPeriods.stream()
-                .filter(p -> p.getEndDate().isBefore(now.toLocalDate()))
-                .count();
-
-        // Group by type
-        Map<String, Long> byType = allPeriods.stream()
-                .collect(Collectors.groupingBy(
-                        p -> p.getType().getValue(),
-                        Collectors.counting()
-                ));
-
-        // Calculate average duration in days
-        double averageDuration = allPeriods.stream()
-                .mapToLong(p -> ChronoUnit.DAYS.between(
-                        p.getStartDate(),
-                        p.getEndDate()
-                ))
-                .average()
-                .orElse(0.0);
-
-        PeriodStatisticsResponse response = PeriodStatisticsResponse.builder()
-                .total(total)
-                .active(active)
-                .current(current)
-                .upcoming(upcoming)
-                .finished(finished)
-                .byType(byType)
-                .averageDuration(Math.round(averageDuration * 100.0) / 100.0)
-                .build();
+        LocalDate today = LocalDate.now();
+        PeriodStatisticsResponse response = periodStatisticsStore.find(studentId, today)
+                .orElseGet(() -> periodRepository.getStatistics(studentId, today));
 
         log.info(
                 "Statistics calculated: total={}, active={}, current={}",
-                total,
-                active,
-                current
+                response.getTotal(),
+                response.getActive(),
+                response.getCurrent()
         );
 
         return response;
     }
-}
\ No newline at end of file
+}
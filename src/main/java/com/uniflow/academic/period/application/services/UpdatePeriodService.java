@@ -1,7 +1,9 @@
 package com.uniflow.academic.period.application.services;
 
 import com.uniflow.academic.period.application.ports.in.UpdatePeriodCommand;
+import com.uniflow.academic.period.application.ports.out.CurrentPeriodCache;
 import com.uniflow.academic.period.application.ports.out.PeriodRepository;
+import com.uniflow.academic.period.application.ports.out.PeriodStatisticsStore;
 import com.uniflow.academic.period.application.ports.out.dto.UpdatePeriodRequest;
 import com.uniflow.academic.period.domain.exception.PeriodNotFoundException;
 import com.uniflow.academic.period.domain.exception.InvalidPeriodException;
@@ -21,6 +23,8 @@ import java.time.LocalDateTime;
 public class UpdatePeriodService implements UpdatePeriodCommand {
 
     private final PeriodRepository periodRepository;
+    private final CurrentPeriodCache currentPeriodCache;
+    private final PeriodStatisticsStore periodStatisticsStore;
 
     @Override
     public Period execute(
@@ -40,10 +44,12 @@ public class UpdatePeriodService implements UpdatePeriodCommand {
             );
         }
 
-        Period period = periodRepository.findById(periodId, studentId)
+        // Row lock: the statistics delta below subtracts this state
+        Period existing = periodRepository.findByIdForUpdate(periodId, studentId)
                 .orElseThrow(() -> new PeriodNotFoundException(
                         "Period not found: " + periodId
                 ));
+        Period period = existing;
 
         try {
             // Update only provided fields
@@ -94,6 +100,10 @@ public class UpdatePeriodService implements UpdatePeriodCommand {
             period.validate();
 
             Period updatedPeriod = periodRepository.update(period);
+            periodStatisticsStore.record(existing, updatedPeriod);
+            if (Boolean.TRUE.equals(updatedPeriod.getIsActive())) {
+                currentPeriodCache.evict(studentId);
+            }
             log.info("Period updated successfully: {}", periodId);
 
             return updatedPeriod;
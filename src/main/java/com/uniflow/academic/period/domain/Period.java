@@ -1,6 +1,7 @@
 package com.uniflow.academic.period.domain;
 
 import com.uniflow.academic.period.domain.exception.InvalidPeriodException;
+import com.uniflow.academic.shared.domain.UuidV7;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,7 +9,6 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Getter
 @NoArgsConstructor
@@ -93,7 +93,7 @@ public class Period {
             String studentId
     ) {
         Period period = Period.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UuidV7.randomUuid().toString())
                 .name(name)
                 .type(type)
                 .year(year)
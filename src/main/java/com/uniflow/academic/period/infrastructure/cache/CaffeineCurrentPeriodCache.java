@@ -0,0 +1,46 @@
+package com.uniflow.academic.period.infrastructure.cache;
+
+import com.uniflow.academic.period.application.ports.out.CurrentPeriodCache;
+import com.uniflow.academic.period.domain.Period;
+import com.uniflow.academic.shared.infrastructure.cache.TransactionAwareCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * In-memory cache of the active period per student.
+ * Bounded by size; the TTL is only a safety net, writes evict explicitly.
+ * Metrics: cache.gets{cache=periods.current,result=hit|miss}, cache.size, cache.evictions
+ */
+@Slf4j
+@Component
+public class CaffeineCurrentPeriodCache implements CurrentPeriodCache {
+
+    static final String CACHE_NAME = "periods.current";
+
+    private final TransactionAwareCache<String, Optional<Period>> cache;
+
+    public CaffeineCurrentPeriodCache(
+            @Value("${app.cache.current-period.max-size:10000}") long maxSize,
+            @Value("${app.cache.current-period.ttl:10m}") Duration ttl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = new TransactionAwareCache<>(CACHE_NAME, maxSize, ttl, null, meterRegistry);
+    }
+
+    @Override
+    public Optional<Period> get(String studentId, Function<String, Optional<Period>> loader) {
+        return cache.get(studentId, loader);
+    }
+
+    @Override
+    public void evict(String studentId) {
+        cache.evict(studentId);
+        log.debug("Current period cache evicted for student: {}", studentId);
+    }
+}
@@ -1,6 +1,7 @@
 package com.uniflow.academic.period.infrastructure.persistence.postgres;
 
 import com.uniflow.academic.period.domain.Period;
+import com.uniflow.academic.shared.infrastructure.persistence.UuidIds;
 import org.springframework.stereotype.Component;
 
 /**
@@ -19,7 +20,7 @@ public class PeriodEntityMapper {
         }
 
         return PeriodEntity.builder()
-                .id(period.getId())
+                .id(UuidIds.of(period.getId()))
                 .name(period.getName())
                 .type(period.getType().getValue())
                 .year(period.getYear())
@@ -41,7 +42,7 @@ public class PeriodEntityMapper {
         }
 
         return Period.builder()
-                .id(entity.getId())
+                .id(UuidIds.toString(entity.getId()))
                 .name(entity.getName())
                 .type(Period.PeriodType.fromValue(entity.getType()))
                 .year(entity.getYear())
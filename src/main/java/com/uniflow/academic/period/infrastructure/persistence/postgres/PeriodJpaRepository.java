@@ -1,64 +1,91 @@
 package com.uniflow.academic.period.infrastructure.persistence.postgres;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface PeriodJpaRepository
-        extends JpaRepository<PeriodEntity, String> {
+        extends JpaRepository<PeriodEntity, UUID> {
 
     /**
      * Find a period by ID and student ID
      */
     Optional<PeriodEntity> findByIdAndStudentId(
-            String id,
+            UUID id,
             String studentId
     );
 
     /**
-     * Find all periods for a student
+     * Same lookup with SELECT ... FOR UPDATE: an update reads the state it
+     * replaces under the row lock, so two concurrent updates of one period
+     * cannot both subtract the same old state from the statistics counters
      */
-    Page<PeriodEntity> findByStudentId(
-            String studentId,
-            Pageable pageable
-    );
-
-    /**
-     * Find all periods for a student filtered by type
-     */
-    Page<PeriodEntity> findByStudentIdAndType(
-            String studentId,
-            String type,
-            Pageable pageable
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<PeriodEntity> findForUpdateByIdAndStudentId(
+            UUID id,
+            String studentId
     );
 
     /**
-     * Find all periods for a student filtered by year
+     * Offset page of periods with optional filters, in the
+     * (student_id, start_date DESC, id DESC) index order
      */
-    Page<PeriodEntity> findByStudentIdAndYear(
-            String studentId,
-            Integer year,
+    @Query(
+            """
+            SELECT p FROM PeriodEntity p
+            WHERE p.studentId = :studentId
+            AND (:type IS NULL OR p.type = :type)
+            AND (:year IS NULL OR p.year = :year)
+            AND (:isActive IS NULL OR p.isActive = :isActive)
+            ORDER BY p.startDate DESC, p.id DESC
+            """
+    )
+    Page<PeriodEntity> findAllWithFilters(
+            @Param("studentId") String studentId,
+            @Param("type") String type,
+            @Param("year") Integer year,
+            @Param("isActive") Boolean isActive,
             Pageable pageable
     );
 
     /**
-     * Find all periods for a student filtered by active status
+     * First keyset page: newest periods first, id breaks ties.
+     * Returns a List so no count query is issued.
      */
-    Page<PeriodEntity> findByStudentIdAndIsActive(
-            String studentId,
-            Boolean isActive,
+    @Query(
+            """
+            SELECT p FROM PeriodEntity p
+            WHERE p.studentId = :studentId
+            AND (:type IS NULL OR p.type = :type)
+            AND (:year IS NULL OR p.year = :year)
+            AND (:isActive IS NULL OR p.isActive = :isActive)
+            ORDER BY p.startDate DESC, p.id DESC
+            """
+    )
+    List<PeriodEntity> findFirstKeysetPage(
+            @Param("studentId") String studentId,
+            @Param("type") String type,
+            @Param("year") Integer year,
+            @Param("isActive") Boolean isActive,
             Pageable pageable
     );
 
     /**
-     * Find all periods with multiple filters
+     * Next keyset page: periods strictly after (startDate, id) in
+     * (start_date DESC, id DESC) order. The startDate bound lets the
+     * (student_id, start_date, id) index seek instead of skipping rows.
      */
     @Query(
             """
@@ -67,37 +94,106 @@ public interface PeriodJpaRepository
             AND (:type IS NULL OR p.type = :type)
             AND (:year IS NULL OR p.year = :year)
             AND (:isActive IS NULL OR p.isActive = :isActive)
-            ORDER BY p.startDate DESC
+            AND p.startDate <= :afterStartDate
+            AND (p.startDate < :afterStartDate OR p.id < :afterId)
+            ORDER BY p.startDate DESC, p.id DESC
             """
     )
-    Page<PeriodEntity> findAllWithFilters(
+    List<PeriodEntity> findKeysetPageAfter(
             @Param("studentId") String studentId,
             @Param("type") String type,
             @Param("year") Integer year,
             @Param("isActive") Boolean isActive,
+            @Param("afterStartDate") LocalDate afterStartDate,
+            @Param("afterId") UUID afterId,
             Pageable pageable
     );
 
     /**
-     * Find the current active period for a student
+     * Per-type counters for period statistics in a single pass.
+     * Date conditions are strict, as in the original statistics:
+     * current = started before today and ends after today.
      */
-    Optional<PeriodEntity> findByStudentIdAndIsActive(
-            String studentId,
-            Boolean isActive
+    @Query(
+            value = """
+            SELECT p.type AS type,
+                   COUNT(*) AS total,
+                   COUNT(*) FILTER (WHERE p.is_active) AS active,
+                   COUNT(*) FILTER (WHERE p.start_date < :today AND p.end_date > :today) AS ongoing,
+                   COUNT(*) FILTER (WHERE p.start_date > :today) AS upcoming,
+                   COUNT(*) FILTER (WHERE p.end_date < :today) AS finished,
+                   COALESCE(SUM(p.end_date - p.start_date), 0) AS days
+            FROM academic.periods p
+            WHERE p.student_id = :studentId
+            GROUP BY p.type
+            """,
+            nativeQuery = true
+    )
+    List<PeriodTypeStatistics> aggregateStatisticsByType(
+            @Param("studentId") String studentId,
+            @Param("today") LocalDate today
     );
 
     /**
-     * Find all active periods for a student
+     * Activate one period and deactivate the rest of the student's periods.
+     * Only rows whose state changes are touched (active ones plus the target);
+     * nothing is updated if the target does not belong to the student.
+     * The one-active-period constraint is checked at the end of the statement.
+     *
+     * @return number of rows updated, 0 if the period was not found
      */
-    List<PeriodEntity> findAllByStudentIdAndIsActive(
-            String studentId,
-            Boolean isActive
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+            value = """
+            UPDATE academic.periods
+            SET is_active = (id = :periodId),
+                updated_at = :now
+            WHERE student_id = :studentId
+            AND (is_active OR id = :periodId)
+            AND EXISTS (
+                SELECT 1 FROM academic.periods target
+                WHERE target.id = :periodId
+                AND target.student_id = :studentId
+            )
+            """,
+            nativeQuery = true
+    )
+    int activateExclusively(
+            @Param("periodId") UUID periodId,
+            @Param("studentId") String studentId,
+            @Param("now") LocalDateTime now
     );
 
+    /**
+     * Find the current active period for a student.
+     * The literal TRUE (not a bound parameter) lets even a generic plan
+     * use the partial index of uq_period_one_active_per_student.
+     */
+    @Query(
+            """
+            SELECT p FROM PeriodEntity p
+            WHERE p.studentId = :studentId
+            AND p.isActive = TRUE
+            """
+    )
+    Optional<PeriodEntity> findActiveByStudentId(@Param("studentId") String studentId);
+
+    /**
+     * Find all active periods for a student (same index as findActiveByStudentId)
+     */
+    @Query(
+            """
+            SELECT p FROM PeriodEntity p
+            WHERE p.studentId = :studentId
+            AND p.isActive = TRUE
+            """
+    )
+    List<PeriodEntity> findAllActiveByStudentId(@Param("studentId") String studentId);
+
     /**
      * Check if period exists for student
      */
-    boolean existsByIdAndStudentId(String id, String studentId);
+    boolean existsByIdAndStudentId(UUID id, String studentId);
 
     /**
      * Custom query to find periods overlapping with given dates
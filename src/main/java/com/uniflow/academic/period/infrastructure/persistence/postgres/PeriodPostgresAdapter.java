@@ -4,16 +4,28 @@ import com.uniflow.academic.period.application.ports.in.GetAllPeriodsQuery;
 import com.uniflow.academic.period.application.ports.out.PeriodRepository;
 import com.uniflow.academic.period.application.ports.out.dto.PeriodFilter;
 import com.uniflow.academic.period.application.ports.out.dto.PaginationParams;
+import com.uniflow.academic.period.application.ports.out.dto.PeriodCursor;
+import com.uniflow.academic.period.application.ports.out.dto.PeriodStatisticsResponse;
 import com.uniflow.academic.period.domain.Period;
-import com.uniflow.academic.subject.infrastructure.persistence.postgres.SubjectJpaRepository;
+import com.uniflow.academic.period.domain.exception.InvalidPeriodException;
+import com.uniflow.academic.shared.infrastructure.persistence.UuidIds;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -21,15 +33,48 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PeriodPostgresAdapter implements PeriodRepository {
 
+    // Ownership and the "no subjects" rule are part of the DELETE itself
+    private static final String DELETE_IF_UNUSED = """
+            DELETE FROM academic.periods p
+            WHERE p.id = :periodId
+            AND p.student_id = :studentId
+            AND NOT EXISTS (
+                SELECT 1 FROM academic.subjects s
+                WHERE s.period_id = p.id
+            )
+            RETURNING p.*
+            """;
+
+    // fk_subject_period is ON DELETE CASCADE, so the subjects go in the same statement
+    private static final String DELETE_WITH_SUBJECTS = """
+            DELETE FROM academic.periods p
+            WHERE p.id = :periodId
+            AND p.student_id = :studentId
+            RETURNING p.*
+            """;
+
+    private static final RowMapper<PeriodEntity> DELETED_ROW = (rs, rowNum) -> PeriodEntity.builder()
+            .id(rs.getObject("id", UUID.class))
+            .name(rs.getString("name"))
+            .type(rs.getString("type"))
+            .year(rs.getInt("year"))
+            .startDate(rs.getObject("start_date", LocalDate.class))
+            .endDate(rs.getObject("end_date", LocalDate.class))
+            .studentId(rs.getString("student_id"))
+            .isActive(rs.getBoolean("is_active"))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .build();
+
     private final PeriodJpaRepository jpaRepository;
     private final PeriodEntityMapper mapper;
-    private final SubjectJpaRepository subjectJpaRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
     @Override
     public Period save(Period period) {
         log.debug("Saving period: {}", period.getId());
         PeriodEntity entity = mapper.toEntity(period);
-        PeriodEntity saved = jpaRepository.save(entity);
+        PeriodEntity saved = jpaRepository.save(entity.markNew());
         return mapper.toDomain(saved);
     }
 
@@ -41,6 +86,29 @@ public class PeriodPostgresAdapter implements PeriodRepository {
         return mapper.toDomain(updated);
     }
 
+    @Override
+    public boolean activateExclusively(String periodId, String studentId) {
+        log.debug(
+                "Activating period: {} for student: {}",
+                periodId,
+                studentId
+        );
+        Optional<UUID> id = UuidIds.parse(periodId);
+        if (id.isEmpty()) {
+            return false;
+        }
+
+        try {
+            return jpaRepository.activateExclusively(id.get(), studentId, LocalDateTime.now()) > 0;
+        } catch (DataIntegrityViolationException e) {
+            // uq_period_one_active_per_student: a concurrent activation won
+            throw new IllegalStateException(
+                    "Another period was activated at the same time, please retry",
+                    e
+            );
+        }
+    }
+
     @Override
     public Optional<Period> findById(String periodId, String studentId) {
         log.debug(
@@ -48,7 +116,20 @@ public class PeriodPostgresAdapter implements PeriodRepository {
                 periodId,
                 studentId
         );
-        return jpaRepository.findByIdAndStudentId(periodId, studentId)
+        return UuidIds.parse(periodId)
+                .flatMap(id -> jpaRepository.findByIdAndStudentId(id, studentId))
+                .map(mapper::toDomain);
+    }
+
+    @Override
+    public Optional<Period> findByIdForUpdate(String periodId, String studentId) {
+        log.debug(
+                "Locking period: {} for student: {}",
+                periodId,
+                studentId
+        );
+        return UuidIds.parse(periodId)
+                .flatMap(id -> jpaRepository.findForUpdateByIdAndStudentId(id, studentId))
                 .map(mapper::toDomain);
     }
 
@@ -65,25 +146,24 @@ public class PeriodPostgresAdapter implements PeriodRepository {
         );
 
         params.validate();
+        if (params.isCursorMode()) {
+            return findAllByKeyset(studentId, params, filter);
+        }
+
         Pageable pageable = PageRequest.of(
                 params.getPage() - 1,
                 params.getLimit()
         );
 
-        Page<PeriodEntity> page;
-
-        // Build query based on filters
-        if (filter != null && !filter.isEmpty()) {
-            page = jpaRepository.findAllWithFilters(
-                    studentId,
-                    filter.getType(),
-                    filter.getYear(),
-                    filter.getIsActive(),
-                    pageable
-            );
-        } else {
-            page = jpaRepository.findByStudentId(studentId, pageable);
-        }
+        // One query shape with or without filters, ordered like the keyset index
+        PeriodFilter criteria = filter != null ? filter : new PeriodFilter();
+        Page<PeriodEntity> page = jpaRepository.findAllWithFilters(
+                studentId,
+                criteria.getType(),
+                criteria.getYear(),
+                criteria.getIsActive(),
+                pageable
+        );
 
         List<Period> periods = page.getContent().stream()
                 .map(mapper::toDomain)
@@ -105,36 +185,134 @@ public class PeriodPostgresAdapter implements PeriodRepository {
                 .build();
     }
 
+    /**
+     * Keyset pagination: fetches limit + 1 rows to know if there is a next page,
+     * without a count query
+     */
+    private GetAllPeriodsQuery.PaginatedPeriodsResponse findAllByKeyset(
+            String studentId,
+            PaginationParams params,
+            PeriodFilter filter
+    ) {
+        PeriodFilter criteria = filter != null ? filter : new PeriodFilter();
+        Pageable window = PageRequest.ofSize(params.getLimit() + 1);
+
+        List<PeriodEntity> rows;
+        if (params.hasCursor()) {
+            PeriodCursor cursor = PeriodCursor.decode(params.getAfter());
+            rows = jpaRepository.findKeysetPageAfter(
+                    studentId,
+                    criteria.getType(),
+                    criteria.getYear(),
+                    criteria.getIsActive(),
+                    cursor.getStartDate(),
+                    UuidIds.parse(cursor.getId())
+                            .orElseThrow(() -> new InvalidPeriodException("Invalid pagination cursor")),
+                    window
+            );
+        } else {
+            rows = jpaRepository.findFirstKeysetPage(
+                    studentId,
+                    criteria.getType(),
+                    criteria.getYear(),
+                    criteria.getIsActive(),
+                    window
+            );
+        }
+
+        boolean hasNext = rows.size() > params.getLimit();
+        List<PeriodEntity> pageRows = hasNext ? rows.subList(0, params.getLimit()) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PeriodEntity last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new PeriodCursor(last.getStartDate(), last.getId().toString()).encode();
+        }
+
+        GetAllPeriodsQuery.PaginatedPeriodsResponse.Pagination pagination =
+                GetAllPeriodsQuery.PaginatedPeriodsResponse.Pagination.builder()
+                        .limit(params.getLimit())
+                        .hasNext(hasNext)
+                        .hasPrevious(params.hasCursor())
+                        .nextCursor(nextCursor)
+                        .build();
+
+        return GetAllPeriodsQuery.PaginatedPeriodsResponse.builder()
+                .data(pageRows.stream().map(mapper::toDomain).collect(Collectors.toList()))
+                .pagination(pagination)
+                .build();
+    }
+
+    @Override
+    public PeriodStatisticsResponse getStatistics(String studentId, LocalDate today) {
+        log.debug("Aggregating period statistics for student: {}", studentId);
+
+        long total = 0;
+        long active = 0;
+        long current = 0;
+        long upcoming = 0;
+        long finished = 0;
+        long days = 0;
+        Map<String, Long> byType = new HashMap<>();
+
+        // One row per type, at most four rows
+        for (PeriodTypeStatistics row : jpaRepository.aggregateStatisticsByType(studentId, today)) {
+            total += row.getTotal();
+            active += row.getActive();
+            current += row.getOngoing();
+            upcoming += row.getUpcoming();
+            finished += row.getFinished();
+            days += row.getDays();
+            byType.put(row.getType(), row.getTotal());
+        }
+
+        double averageDuration = total > 0 ? (double) days / total : 0.0;
+
+        return PeriodStatisticsResponse.builder()
+                .total(total)
+                .active(active)
+                .current(current)
+                .upcoming(upcoming)
+                .finished(finished)
+                .byType(byType)
+                .averageDuration(Math.round(averageDuration * 100.0) / 100.0)
+                .build();
+    }
+
     @Override
     public Optional<Period> findCurrentActive(String studentId) {
         log.debug("Finding current active period for student: {}", studentId);
-        return jpaRepository.findByStudentIdAndIsActive(studentId, true)
+        return jpaRepository.findActiveByStudentId(studentId)
                 .map(mapper::toDomain);
     }
 
     @Override
     public List<Period> findAllActive(String studentId) {
         log.debug("Finding all active periods for student: {}", studentId);
-        return jpaRepository.findAllByStudentIdAndIsActive(studentId, true)
+        return jpaRepository.findAllActiveByStudentId(studentId)
                 .stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
-    public void delete(String periodId, String studentId) {
+    public Optional<Period> deleteIfUnused(String periodId, String studentId) {
         log.debug(
                 "Deleting period: {} for student: {}",
                 periodId,
                 studentId
         );
-        jpaRepository.deleteById(periodId);
+        return deleteReturning(DELETE_IF_UNUSED, periodId, studentId);
     }
 
     @Override
-    public boolean hasAssociatedSubjects(String periodId) {
-        log.debug("Checking subjects for period: {}", periodId);
-        return subjectJpaRepository.countByPeriodId(periodId) > 0;
+    public Optional<Period> deleteWithSubjects(String periodId, String studentId) {
+        log.debug(
+                "Deleting period: {} with its subjects for student: {}",
+                periodId,
+                studentId
+        );
+        return deleteReturning(DELETE_WITH_SUBJECTS, periodId, studentId);
     }
 
     @Override
@@ -144,6 +322,22 @@ public class PeriodPostgresAdapter implements PeriodRepository {
                 periodId,
                 studentId
         );
-        return jpaRepository.existsByIdAndStudentId(periodId, studentId);
+        return UuidIds.parse(periodId)
+                .map(id -> jpaRepository.existsByIdAndStudentId(id, studentId))
+                .orElse(false);
+    }
+
+    private Optional<Period> deleteReturning(String sql, String periodId, String studentId) {
+        Optional<UUID> id = UuidIds.parse(periodId);
+        if (id.isEmpty()) {
+            return Optional.empty();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("periodId", id.get())
+                .addValue("studentId", studentId);
+        return jdbcTemplate.query(sql, params, DELETED_ROW).stream()
+                .findFirst()
+                .map(mapper::toDomain);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package com.uniflow.academic.period.infrastructure.persistence.postgres;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Read model of academic.student_period_stats.
+ * Written only through the native upserts of PeriodStatisticsJpaRepository.
+ */
+@Entity
+@Immutable
+@Table(name = "student_period_stats", schema = "academic")
+@Getter
+@NoArgsConstructor
+public class PeriodStatisticsEntity {
+
+    @Id
+    @Column(name = "student_id", nullable = false)
+    private String studentId;
+
+    @Column(name = "total", nullable = false)
+    private Long total;
+
+    @Column(name = "active", nullable = false)
+    private Long active;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "by_type", nullable = false)
+    private Map<String, Long> byType;
+
+    /**
+     * Periods per "start|end" date pair (ISO dates)
+     */
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "date_ranges", nullable = false)
+    private Map<String, Long> dateRanges;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
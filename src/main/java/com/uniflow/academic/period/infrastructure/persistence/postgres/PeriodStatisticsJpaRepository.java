@@ -0,0 +1,117 @@
+package com.uniflow.academic.period.infrastructure.persistence.postgres;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PeriodStatisticsJpaRepository extends JpaRepository<PeriodStatisticsEntity, String> {
+
+    /**
+     * Add a delta to the counters of a student, creating the row if needed.
+     * The grouped deltas are JSON objects {"key": +/-count}.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO academic.student_period_stats AS stats
+                (student_id, total, active, by_type, date_ranges, updated_at)
+            VALUES (:studentId, :total, :active,
+                    academic.jsonb_add_counts('{}'::jsonb, CAST(:byType AS jsonb)),
+                    academic.jsonb_add_counts('{}'::jsonb, CAST(:dateRanges AS jsonb)),
+                    :now)
+            ON CONFLICT (student_id) DO UPDATE SET
+                total = stats.total + EXCLUDED.total,
+                active = stats.active + EXCLUDED.active,
+                by_type = academic.jsonb_add_counts(stats.by_type, EXCLUDED.by_type),
+                date_ranges = academic.jsonb_add_counts(stats.date_ranges, EXCLUDED.date_ranges),
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void applyDelta(
+            @Param("studentId") String studentId,
+            @Param("total") long total,
+            @Param("active") long active,
+            @Param("byType") String byType,
+            @Param("dateRanges") String dateRanges,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Activation leaves exactly one active period for the student
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE academic.student_period_stats
+            SET active = 1,
+                updated_at = :now
+            WHERE student_id = :studentId
+            """, nativeQuery = true)
+    int markSingleActive(@Param("studentId") String studentId, @Param("now") LocalDateTime now);
+
+    /**
+     * Serialize counter writes of one student until the end of the transaction.
+     * Taken before every delta and before a rebuild, so a rebuild never
+     * overwrites a delta committed while it was reading the periods table.
+     */
+    @Query(value = """
+            SELECT 1 FROM pg_advisory_xact_lock(hashtext('student_period_stats'), hashtext(:studentId))
+            """, nativeQuery = true)
+    int lockStudent(@Param("studentId") String studentId);
+
+    /**
+     * Students that have periods or counters, i.e. every row a rebuild may touch
+     */
+    @Query(value = """
+            SELECT student_id FROM academic.periods
+            UNION
+            SELECT student_id FROM academic.student_period_stats
+            """, nativeQuery = true)
+    List<String> findStudentIds();
+
+    /**
+     * Overwrite the counters of a student from the periods table
+     * (same statement as the V9 backfill). Call under lockStudent.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO academic.student_period_stats
+                (student_id, total, active, by_type, date_ranges, updated_at)
+            SELECT t.student_id, t.total, t.active,
+                   COALESCE((SELECT jsonb_object_agg(g.type, g.total) FROM (
+                            SELECT p.type, COUNT(*) AS total
+                            FROM academic.periods p WHERE p.student_id = t.student_id GROUP BY 1) g), '{}'::jsonb),
+                   COALESCE((SELECT jsonb_object_agg(g.range, g.total) FROM (
+                            SELECT to_char(p.start_date, 'YYYY-MM-DD') || '|' || to_char(p.end_date, 'YYYY-MM-DD') AS range,
+                                   COUNT(*) AS total
+                            FROM academic.periods p WHERE p.student_id = t.student_id GROUP BY 1) g), '{}'::jsonb),
+                   :now
+            FROM (
+                SELECT student_id, COUNT(*) AS total, COUNT(*) FILTER (WHERE is_active) AS active
+                FROM academic.periods
+                WHERE student_id = :studentId
+                GROUP BY student_id
+            ) t
+            ON CONFLICT (student_id) DO UPDATE SET
+                total = EXCLUDED.total,
+                active = EXCLUDED.active,
+                by_type = EXCLUDED.by_type,
+                date_ranges = EXCLUDED.date_ranges,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int rebuild(@Param("studentId") String studentId, @Param("now") LocalDateTime now);
+
+    /**
+     * Drop the counters of a student that no longer has periods
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            DELETE FROM academic.student_period_stats stats
+            WHERE stats.student_id = :studentId
+            AND NOT EXISTS (
+                SELECT 1 FROM academic.periods p WHERE p.student_id = stats.student_id
+            )
+            """, nativeQuery = true)
+    int deleteOrphans(@Param("studentId") String studentId);
+}
@@ -0,0 +1,162 @@
+package com.uniflow.academic.period.infrastructure.persistence.postgres;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uniflow.academic.period.application.ports.out.PeriodStatisticsStore;
+import com.uniflow.academic.period.application.ports.out.dto.PeriodStatisticsResponse;
+import com.uniflow.academic.period.domain.Period;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PeriodStatisticsPostgresAdapter implements PeriodStatisticsStore {
+
+    private static final char RANGE_SEPARATOR = '|';
+
+    private final PeriodStatisticsJpaRepository jpaRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public Optional<PeriodStatisticsResponse> find(String studentId, LocalDate today) {
+        return jpaRepository.findById(studentId).map(stats -> {
+            long current = 0;
+            long upcoming = 0;
+            long finished = 0;
+            long days = 0;
+
+            // Same strict comparisons as PeriodJpaRepository.aggregateStatisticsByType
+            for (Map.Entry<String, Long> range : stats.getDateRanges().entrySet()) {
+                int separator = range.getKey().indexOf(RANGE_SEPARATOR);
+                LocalDate start = LocalDate.parse(range.getKey().substring(0, separator));
+                LocalDate end = LocalDate.parse(range.getKey().substring(separator + 1));
+                long count = range.getValue();
+
+                if (start.isBefore(today) && end.isAfter(today)) {
+                    current += count;
+                }
+                if (start.isAfter(today)) {
+                    upcoming += count;
+                }
+                if (end.isBefore(today)) {
+                    finished += count;
+                }
+                days += ChronoUnit.DAYS.between(start, end) * count;
+            }
+
+            long total = stats.getTotal();
+            double averageDuration = total > 0 ? (double) days / total : 0.0;
+
+            return PeriodStatisticsResponse.builder()
+                    .total(total)
+                    .active(stats.getActive())
+                    .current(current)
+                    .upcoming(upcoming)
+                    .finished(finished)
+                    .byType(new HashMap<>(stats.getByType()))
+                    .averageDuration(Math.round(averageDuration * 100.0) / 100.0)
+                    .build();
+        });
+    }
+
+    @Override
+    public void record(Period before, Period after) {
+        Period period = after != null ? after : before;
+        if (period == null) {
+            return;
+        }
+
+        long total = 0;
+        long active = 0;
+        Map<String, Long> byType = new HashMap<>();
+        Map<String, Long> dateRanges = new HashMap<>();
+        if (before != null) {
+            total--;
+            active -= activeOf(before);
+            merge(byType, before.getType().getValue(), -1);
+            merge(dateRanges, rangeOf(before), -1);
+        }
+        if (after != null) {
+            total++;
+            active += activeOf(after);
+            merge(byType, after.getType().getValue(), 1);
+            merge(dateRanges, rangeOf(after), 1);
+        }
+
+        if (total == 0 && active == 0 && byType.isEmpty() && dateRanges.isEmpty()) {
+            // Update that touched none of the counted fields
+            return;
+        }
+        jpaRepository.lockStudent(period.getStudentId());
+        jpaRepository.applyDelta(
+                period.getStudentId(),
+                total,
+                active,
+                toJson(byType),
+                toJson(dateRanges),
+                LocalDateTime.now()
+        );
+    }
+
+    @Override
+    public void recordActivation(String studentId) {
+        jpaRepository.lockStudent(studentId);
+        jpaRepository.markSingleActive(studentId, LocalDateTime.now());
+    }
+
+    /**
+     * One short transaction per student under the same lock as the deltas:
+     * a single INSERT ... SELECT over every student would read the periods
+     * table once and then overwrite deltas committed in the meantime.
+     */
+    @Override
+    public int rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        int rebuilt = 0;
+        int removed = 0;
+        for (String studentId : jpaRepository.findStudentIds()) {
+            int[] counts = transactionTemplate.execute(status -> {
+                jpaRepository.lockStudent(studentId);
+                return new int[]{jpaRepository.rebuild(studentId, now), jpaRepository.deleteOrphans(studentId)};
+            });
+            rebuilt += counts[0];
+            removed += counts[1];
+        }
+        log.info("Period statistics rebuilt for {} students, {} stale rows removed", rebuilt, removed);
+        return rebuilt;
+    }
+
+    static String rangeOf(Period period) {
+        return period.getStartDate().toString() + RANGE_SEPARATOR + period.getEndDate();
+    }
+
+    private static long activeOf(Period period) {
+        return Boolean.TRUE.equals(period.getIsActive()) ? 1 : 0;
+    }
+
+    private static void merge(Map<String, Long> counts, String key, long delta) {
+        counts.merge(key, delta, Long::sum);
+        if (counts.get(key) == 0) {
+            counts.remove(key);
+        }
+    }
+
+    private String toJson(Map<String, Long> counts) {
+        try {
+            return objectMapper.writeValueAsString(counts);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize statistics delta", e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.uniflow.academic.period.infrastructure.persistence.postgres;
+
+/**
+ * Projection for the per-type statistics aggregate.
+ * Getter names match the column aliases of the native query.
+ */
+public interface PeriodTypeStatistics {
+
+    String getType();
+
+    Long getTotal();
+
+    Long getActive();
+
+    Long getOngoing();
+
+    Long getUpcoming();
+
+    Long getFinished();
+
+    /**
+     * Sum of (end_date - start_date) in days
+     */
+    Long getDays();
+}
@@ -5,9 +5,6 @@ import com.uniflow.academic.period.application.ports.out.dto.PeriodFilter;
 import com.uniflow.academic.period.application.ports.out.dto.PaginationParams;
 import com.uniflow.academic.period.infrastructure.web.dto.*;
 import com.uniflow.academic.period.infrastructure.web.dto.mapper.PeriodHttpMapper;
-import com.uniflow.academic.subject.application.ports.in.GetSubjectsByPeriodQuery;
-import com.uniflow.academic.subject.infrastructure.web.dto.SubjectsByPeriodHttpResponse;
-import com.uniflow.academic.subject.infrastructure.web.dto.mapper.SubjectHttpMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -45,8 +42,6 @@ public class PeriodController {
     private final GetCurrentPeriodQuery getCurrentPeriodQuery;
     private final GetPeriodStatisticsQuery getPeriodStatisticsQuery;
     private final PeriodHttpMapper periodHttpMapper;
-    private final GetSubjectsByPeriodQuery getSubjectsByPeriodQuery;
-    private final SubjectHttpMapper subjectHttpMapper;
 
     /**
      * POST /periods - Create a new period
@@ -87,7 +82,9 @@ public class PeriodController {
     @GetMapping
     @Operation(
             summary = "Get all periods",
-            description = "Retrieve all periods for the authenticated student with optional filters and pagination"
+            description = "Retrieve all periods for the authenticated student with optional filters and pagination. "
+                    + "Send `after` (empty for the first page, then pagination.nextCursor) "
+                    + "for cursor pagination without totals"
     )
     @ApiResponses({
             @ApiResponse(
@@ -95,6 +92,7 @@ public class PeriodController {
                     description = "Periods retrieved successfully",
                     content = @Content(schema = @Schema(implementation = PaginationHttpResponse.class))
             ),
+            @ApiResponse(responseCode = "400", description = "Invalid pagination cursor"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<PaginationHttpResponse> getAllPeriods(
@@ -104,6 +102,9 @@ public class PeriodController {
             @Parameter(description = "Items per page")
             @RequestParam(defaultValue = "10") Integer limit,
 
+            @Parameter(description = "Cursor from pagination.nextCursor; empty for the first page")
+            @RequestParam(required = false) String after,
+
             @Parameter(description = "Filter by period type")
             @RequestParam(required = false) String type,
 
@@ -121,6 +122,7 @@ public class PeriodController {
         PaginationParams params = PaginationParams.builder()
                 .page(page)
                 .limit(limit)
+                .after(after)
                 .build();
 
         PeriodFilter filter = PeriodFilter.builder()
@@ -235,7 +237,7 @@ public class PeriodController {
     @DeleteMapping("/{periodId}")
     @Operation(
             summary = "Delete period",
-            description = "Delete a period (only if it has no associated subjects)"
+            description = "Delete a period (only if it has no associated subjects, unless force=true)"
     )
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "Period deleted successfully"),
@@ -250,12 +252,15 @@ public class PeriodController {
             @Parameter(description = "Period ID")
             @PathVariable String periodId,
 
+            @Parameter(description = "Also delete the subjects of the period")
+            @RequestParam(defaultValue = "false") boolean force,
+
             Authentication authentication
     ) {
-        log.info("DELETE /periods/{} - Delete period", periodId);
+        log.info("DELETE /periods/{} - Delete period (force: {})", periodId, force);
         String studentId = authentication.getName();
 
-        deletePeriodCommand.execute(periodId, studentId);
+        deletePeriodCommand.execute(periodId, studentId, force);
         return ResponseEntity.noContent().build();
     }
 
@@ -289,30 +294,6 @@ public class PeriodController {
         return ResponseEntity.ok(periodHttpMapper.toHttpResponse(period));
     }
 
-    /**
-     * GET /periods/{periodId}/subjects - Get period subjects
-     */
-    @GetMapping("/{periodId}/subjects")
-    @Operation(summary = "Get subjects by period")
-    @ApiResponses({
-            @ApiResponse(
-                    responseCode = "200",
-                    description = "Subjects retrieved successfully",
-                    content = @Content(schema = @Schema(implementation = SubjectsByPeriodHttpResponse.class))
-            ),
-            @ApiResponse(responseCode = "401", description = "Unauthorized"),
-            @ApiResponse(responseCode = "404", description = "Period not found")
-    })
-    public ResponseEntity<SubjectsByPeriodHttpResponse> getSubjectsByPeriod(
-            @PathVariable String periodId,
-            Authentication authentication
-    ) {
-        log.info("GET /periods/{}/subjects - list subjects", periodId);
-        String studentId = authentication.getName();
-        var subjects = getSubjectsByPeriodQuery.execute(periodId, studentId);
-        return ResponseEntity.ok(subjectHttpMapper.toSubjectsByPeriodResponse(subjects));
-    }
-
     /**
      * GET /stats/periods - Get period statistics
      */
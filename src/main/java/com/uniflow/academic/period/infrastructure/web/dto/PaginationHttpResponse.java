@@ -56,5 +56,9 @@ public class PaginationHttpResponse {
         @JsonProperty("hasPrevious")
         @Schema(description = "Whether there is a previous page")
         private Boolean hasPrevious;
+
+        @JsonProperty("nextCursor")
+        @Schema(description = "Cursor for the next page (cursor mode only)", example = "MjAyNS0wMi0wMXw0ZjNh")
+        private String nextCursor;
     }
 }
\ No newline at end of file
@@ -98,6 +98,7 @@ public class PeriodHttpMapper {
                         .totalPages(response.getPagination().getTotalPages())
                         .hasNext(response.getPagination().getHasNext())
                         .hasPrevious(response.getPagination().getHasPrevious())
+                        .nextCursor(response.getPagination().getNextCursor())
                         .build();
 
         return PaginationHttpResponse.builder()
@@ -0,0 +1,48 @@
+package com.uniflow.academic.shared.domain;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+
+/**
+ * Generador de UUID versión 7 (RFC 9562)
+ * Los primeros 48 bits son el timestamp Unix en milisegundos y el resto es aleatorio,
+ * así los ids nuevos se insertan al final del índice de la PK en vez de dispersarse
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private UuidV7() {
+    }
+
+    public static UUID randomUuid() {
+        return at(System.currentTimeMillis());
+    }
+
+    static UUID at(long epochMillis) {
+        byte[] random = new byte[10];
+        RANDOM.nextBytes(random);
+
+        // unix_ts_ms (48) | ver = 7 (4) | rand_a (12)
+        long mostSignificant = (epochMillis & 0xFFFF_FFFF_FFFFL) << 16
+                | 0x7000L
+                | (random[0] & 0x0FL) << 8
+                | random[1] & 0xFFL;
+
+        // var = 0b10 (2) | rand_b (62)
+        long leastSignificant = 0;
+        for (int i = 2; i < random.length; i++) {
+            leastSignificant = leastSignificant << 8 | random[i] & 0xFFL;
+        }
+        leastSignificant = leastSignificant & 0x3FFF_FFFF_FFFF_FFFFL | 0x8000_0000_0000_0000L;
+
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Milisegundos Unix codificados en un UUID v7
+     */
+    public static long timestamp(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,69 @@
+package com.uniflow.academic.shared.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Cache Caffeine de lecturas por estudiante (o estudiante y periodo) que las
+ * escrituras invalidan explícitamente
+ *
+ * evict() invalida de inmediato y otra vez al terminar la transacción: una
+ * lectura concurrente puede recargar el valor viejo antes del commit
+ * El ttl (expireAfterWrite) es solo una red de seguridad para lo que la
+ * invalidación no alcanza, por ejemplo escrituras atendidas por otra instancia
+ *
+ * Métricas: cache.gets{cache=<name>,result=hit|miss}, cache.size, cache.evictions
+ */
+public final class TransactionAwareCache<K, V> {
+
+    private final Cache<K, V> cache;
+
+    /**
+     * @param ttl Tiempo máximo desde que se cargó un valor
+     * @param idleTtl Tiempo sin lecturas tras el cual se descarta; null para no usarlo
+     */
+    public TransactionAwareCache(
+            String name,
+            long maxSize,
+            Duration ttl,
+            Duration idleTtl,
+            MeterRegistry meterRegistry
+    ) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats();
+        if (idleTtl != null) {
+            builder.expireAfterAccess(idleTtl);
+        }
+        this.cache = builder.build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        return cache.get(key, loader);
+    }
+
+    /**
+     * Invalida la llave ahora y, dentro de una transacción, otra vez al terminar
+     */
+    public void evict(K key) {
+        cache.invalidate(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(key);
+                }
+            });
+        }
+    }
+}
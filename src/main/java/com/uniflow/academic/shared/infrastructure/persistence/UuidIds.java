@@ -0,0 +1,39 @@
+package com.uniflow.academic.shared.infrastructure.persistence;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Conversión de los ids de texto del dominio a las columnas uuid
+ */
+public final class UuidIds {
+
+    private UuidIds() {
+    }
+
+    /**
+     * Convierte un id recibido del cliente; un texto que no es UUID no puede
+     * corresponder a ninguna fila, así que se trata como inexistente
+     */
+    public static Optional<UUID> parse(String id) {
+        if (id == null || id.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(UUID.fromString(id));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Convierte un id generado por el dominio, que siempre es un UUID
+     */
+    public static UUID of(String id) {
+        return id != null ? UUID.fromString(id) : null;
+    }
+
+    public static String toString(UUID id) {
+        return id != null ? id.toString() : null;
+    }
+}
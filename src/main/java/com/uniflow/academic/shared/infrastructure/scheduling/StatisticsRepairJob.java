@@ -0,0 +1,32 @@
+package com.uniflow.academic.shared.infrastructure.scheduling;
+
+import com.uniflow.academic.period.application.ports.out.PeriodStatisticsStore;
+import com.uniflow.academic.subject.application.ports.out.SubjectStatisticsStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recalcula los contadores de estadísticas desde las tablas fuente
+ * Los contadores se mantienen en la misma transacción que cada escritura;
+ * esta tarea solo corrige desvíos (p. ej. cambios hechos directamente en la base)
+ * Reconstruye un estudiante por transacción, con el mismo lock que los deltas
+ * Deshabilitada por defecto: app.statistics.repair-cron = "-"
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatisticsRepairJob {
+
+    private final SubjectStatisticsStore subjectStatisticsStore;
+    private final PeriodStatisticsStore periodStatisticsStore;
+
+    @Scheduled(cron = "${app.statistics.repair-cron:-}")
+    public void repair() {
+        log.info("Repairing statistics counters");
+        int subjects = subjectStatisticsStore.rebuild();
+        int periods = periodStatisticsStore.rebuild();
+        log.info("Statistics counters repaired: {} students with subjects, {} with periods", subjects, periods);
+    }
+}
@@ -0,0 +1,67 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cuenta fallos de autenticación por IP en una ventana fija
+ * Solo cuentan los tokens rechazados; una IP que llega a max-failures recibe 429
+ * sin validar el token hasta que la ventana expire. Los tokens ya validados (en
+ * cache) nunca se bloquean, así varios usuarios detrás de la misma IP (NAT,
+ * balanceador) con sesiones activas no pagan por los fallos de otro
+ */
+@Component
+public class AuthFailureThrottle {
+
+    private final Cache<String, AtomicInteger> failures;
+    private final int maxFailures;
+    private final Duration window;
+    private final Counter throttled;
+
+    public AuthFailureThrottle(GoogleAuthProperties properties, MeterRegistry meterRegistry) {
+        GoogleAuthProperties.FailureThrottle config = properties.getFailureThrottle();
+        this.maxFailures = config.getMaxFailures();
+        this.window = config.getWindow();
+        // expireAfterWrite: la ventana empieza con el primer fallo y no se extiende
+        this.failures = Caffeine.newBuilder()
+                .maximumSize(config.getMaxClients())
+                .expireAfterWrite(window)
+                .build();
+        this.throttled = Counter.builder("auth.failures.throttled")
+                .description("Requests rechazados con 429 por exceso de fallos de autenticación")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Consulta previa a validar: la IP ya agotó sus fallos en la ventana actual
+     * Cada consulta que bloquea cuenta en auth.failures.throttled
+     */
+    public boolean isBlocked(String clientIp) {
+        AtomicInteger count = failures.getIfPresent(clientIp);
+        if (count != null && count.get() >= maxFailures) {
+            throttled.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Registra un token rechazado de la IP
+     */
+    public void recordFailure(String clientIp) {
+        failures.get(clientIp, ip -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * Segundos sugeridos para Retry-After
+     */
+    public long retryAfterSeconds() {
+        return Math.max(1, window.toSeconds());
+    }
+}
@@ -0,0 +1,165 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Propiedades de validación de tokens de Google
+ * Prefijo: app.security.google
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.security.google")
+public class GoogleAuthProperties {
+
+    /**
+     * TOKENINFO: todo token se valida contra oauth2.googleapis.com/tokeninfo
+     * LOCAL: los ID tokens (JWT) se verifican localmente con JWKS,
+     * los access tokens opacos siguen usando tokeninfo
+     */
+    private ValidationMode validationMode = ValidationMode.TOKENINFO;
+
+    /**
+     * Client IDs aceptados como audiencia (aud) de los ID tokens
+     */
+    private List<String> clientIds = new ArrayList<>();
+
+    private TokenCache tokenCache = new TokenCache();
+
+    private Jwks jwks = new Jwks();
+
+    private TokenInfo tokenInfo = new TokenInfo();
+
+    private FailureThrottle failureThrottle = new FailureThrottle();
+
+    public enum ValidationMode {
+        TOKENINFO,
+        LOCAL
+    }
+
+    /**
+     * Cache de resultados de validación (tokeninfo)
+     */
+    @Getter
+    @Setter
+    public static class TokenCache {
+
+        /**
+         * Máximo número de tokens validados en memoria
+         */
+        private long maxSize = 10_000;
+
+        /**
+         * Tiempo máximo que se confía en una validación, aunque el token expire después
+         */
+        private Duration maxTtl = Duration.ofMinutes(5);
+
+        /**
+         * Tiempo extra que una validación vencida (max-ttl) puede usarse
+         * cuando tokeninfo no está disponible. Nunca pasa del exp del token
+         * 0 desactiva el fallback
+         */
+        private Duration staleGrace = Duration.ofMinutes(10);
+
+        /**
+         * Tiempo que se recuerda un token rechazado por Google (sin volver a consultarlo)
+         */
+        private Duration negativeTtl = Duration.ofSeconds(60);
+    }
+
+    /**
+     * Origen y cache de las llaves públicas de Google (JWKS)
+     */
+    @Getter
+    @Setter
+    public static class Jwks {
+
+        /**
+         * http(s):, file: o classpath:
+         */
+        private String uri = "https://www.googleapis.com/oauth2/v3/certs";
+
+        /**
+         * Tiempo de vida del JWKS en cache
+         */
+        private Duration cacheTtl = Duration.ofHours(1);
+
+        /**
+         * Tiempo máximo de espera por un refresco del JWKS
+         */
+        private Duration refreshTimeout = Duration.ofSeconds(15);
+
+        /**
+         * Anticipación con la que se refresca el JWKS en segundo plano
+         */
+        private Duration refreshAhead = Duration.ofMinutes(5);
+    }
+
+    /**
+     * Cliente HTTP hacia el endpoint tokeninfo (pool de conexiones persistentes)
+     */
+    @Getter
+    @Setter
+    public static class TokenInfo {
+
+        private String uri = "https://oauth2.googleapis.com/tokeninfo";
+
+        /**
+         * Tiempo máximo para establecer la conexión TCP/TLS
+         */
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        /**
+         * Tiempo máximo de inactividad esperando la respuesta
+         */
+        private Duration readTimeout = Duration.ofSeconds(3);
+
+        /**
+         * Tiempo máximo de toda la llamada (pool + conexión + respuesta)
+         */
+        private Duration totalTimeout = Duration.ofSeconds(5);
+
+        /**
+         * Tiempo máximo esperando una conexión libre del pool
+         */
+        private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+
+        private int maxConnections = 50;
+
+        private int maxConnectionsPerRoute = 20;
+
+        /**
+         * Conexiones inactivas más tiempo que esto se cierran
+         */
+        private Duration idleTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Límite de fallos de autenticación por IP
+     * Al alcanzarlo se responde 429 sin validar el token, salvo que ya esté en cache
+     */
+    @Getter
+    @Setter
+    public static class FailureThrottle {
+
+        /**
+         * Fallos permitidos por IP dentro de la ventana
+         */
+        private int maxFailures = 20;
+
+        /**
+         * Ventana fija contada desde el primer fallo
+         */
+        private Duration window = Duration.ofMinutes(1);
+
+        /**
+         * Máximo número de IPs con fallos en memoria
+         */
+        private long maxClients = 100_000;
+    }
+}
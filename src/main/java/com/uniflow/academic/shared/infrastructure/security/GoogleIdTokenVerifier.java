@@ -0,0 +1,98 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.JwtTimestampValidator;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Verifica localmente ID tokens de Google (JWT firmados con RS256)
+ * Firma contra el JWKS en cache, luego iss / aud / exp
+ * Sin llamadas de red por request
+ */
+@Slf4j
+@Component
+public class GoogleIdTokenVerifier {
+
+    private static final Set<String> GOOGLE_ISSUERS = Set.of(
+            "accounts.google.com",
+            "https://accounts.google.com"
+    );
+
+    private final NimbusJwtDecoder decoder;
+
+    public GoogleIdTokenVerifier(
+            @Qualifier("googleJwkSource") JWKSource<SecurityContext> jwkSource,
+            GoogleAuthProperties properties
+    ) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // Los claims se validan abajo con los validadores de Spring
+        processor.setJWTClaimsSetVerifier((claims, context) -> { });
+
+        List<String> clientIds = List.copyOf(properties.getClientIds());
+
+        this.decoder = new NimbusJwtDecoder(processor);
+        this.decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                new JwtTimestampValidator(),
+                new JwtClaimValidator<Object>(
+                        JwtClaimNames.ISS,
+                        iss -> iss != null && GOOGLE_ISSUERS.contains(iss.toString())
+                ),
+                new JwtClaimValidator<List<String>>(
+                        JwtClaimNames.AUD,
+                        aud -> aud != null && aud.stream().anyMatch(clientIds::contains)
+                )
+        ));
+    }
+
+    /**
+     * Indica si el token tiene forma de JWT (header.payload.signature)
+     * Los access tokens de Google (ya29...) son opacos
+     */
+    public boolean supports(String token) {
+        if (token == null || !token.startsWith("eyJ")) {
+            return false;
+        }
+        int first = token.indexOf('.');
+        int second = token.indexOf('.', first + 1);
+        return first > 0 && second > first && token.indexOf('.', second + 1) < 0;
+    }
+
+    /**
+     * Verifica firma y claims del ID token
+     *
+     * @param idToken JWT emitido por Google
+     * @return claims del token si es válido, null si no
+     * @throws TokenInfoUnavailableException si no se pudieron obtener las llaves (JWKS)
+     */
+    public Map<String, Object> verify(String idToken) {
+        try {
+            Jwt jwt = decoder.decode(idToken);
+            log.debug("ID token verified locally. User: {}", jwt.getClaims().get("email"));
+            return jwt.getClaims();
+        } catch (BadJwtException e) {
+            log.warn("Local ID token verification failed: {}", e.getMessage());
+            return null;
+        } catch (JwtException e) {
+            // Error obteniendo el JWKS: el token puede ser válido
+            throw new TokenInfoUnavailableException("Google JWKS unavailable: " + e.getMessage(), e);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.uniflow.academic.shared.infrastructure.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -10,9 +10,11 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
@@ -21,16 +23,34 @@ import java.util.Map;
 /**
  * Filtro de autenticación que valida tokens de Google OAuth2
  * Usa el ID único de Google (sub) como identificador principal
+ * Las IPs con demasiados tokens rechazados reciben 429 antes de validar,
+ * salvo para tokens ya validados (en cache)
+ * La IP es getRemoteAddr(); los headers X-Forwarded-* solo cuentan si se
+ * habilita server.forward-headers-strategy detrás de un proxy de confianza
  */
 @Slf4j
 @Component
 public class GoogleTokenAuthenticationFilter extends OncePerRequestFilter {
 
+    // Cuerpos de error codificados una sola vez; solo el timestamp cambia por request
+    private static final ErrorBody INVALID_TOKEN =
+            ErrorBody.of(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized", "Invalid or expired Google token");
+    private static final ErrorBody INVALID_STRUCTURE =
+            ErrorBody.of(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized", "Invalid Google token structure");
+    private static final ErrorBody VALIDATION_FAILED =
+            ErrorBody.of(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized", "Token validation failed");
+    private static final ErrorBody TOO_MANY_FAILURES =
+            ErrorBody.of(429, "Too Many Requests", "Too many authentication failures");
+
     private final GoogleTokenValidator tokenValidator;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AuthFailureThrottle failureThrottle;
 
-    public GoogleTokenAuthenticationFilter(GoogleTokenValidator tokenValidator) {
+    public GoogleTokenAuthenticationFilter(
+            GoogleTokenValidator tokenValidator,
+            AuthFailureThrottle failureThrottle
+    ) {
         this.tokenValidator = tokenValidator;
+        this.failureThrottle = failureThrottle;
     }
 
     @Override
@@ -40,6 +60,8 @@ public class GoogleTokenAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
+        String clientIp = request.getRemoteAddr();
+
         try {
             // 1. Extrae token del header
             String authHeader = request.getHeader("Authorization");
@@ -60,26 +82,34 @@ public class GoogleTokenAuthenticationFilter extends OncePerRequestFilter {
             // 3. Extrae el token
             String accessToken = authHeader.replace("Bearer ", "");
 
-            // 4. Valida con Google
+            // 4. IP con demasiados rechazos: 429 sin llamar a Google, salvo token ya en cache
+            if (!tokenValidator.isCached(accessToken) && failureThrottle.isBlocked(clientIp)) {
+                log.warn("Too many authentication failures from {}", clientIp);
+                response.setHeader("Retry-After", String.valueOf(failureThrottle.retryAfterSeconds()));
+                TOO_MANY_FAILURES.write(response);
+                return;
+            }
+
+            // 5. Valida con Google
             Map<String, Object> tokenInfo = tokenValidator.validateToken(accessToken);
 
-            // 5. Si token no es válido, retorna 401
+            // 6. Si token no es válido, cuenta el fallo y retorna 401
             if (tokenInfo == null) {
-                handleUnauthorized(response, "Invalid or expired Google token");
+                handleRejected(response, clientIp, INVALID_TOKEN);
                 return;
             }
 
-            // 6. Extrae Google ID único (sub)
+            // 7. Extrae Google ID único (sub)
             String googleId = (String) tokenInfo.get("sub");
             String email = (String) tokenInfo.get("email");
 
             if (googleId == null || googleId.isBlank()) {
                 log.error("Google token missing 'sub' claim");
-                handleUnauthorized(response, "Invalid Google token structure");
+                handleRejected(response, clientIp, INVALID_STRUCTURE);
                 return;
             }
 
-            // 7. Token es válido - crea Authentication con Google ID
+            // 8. Token es válido - crea Authentication con Google ID
             OAuth2User oauth2User = createOAuth2User(tokenInfo, googleId);
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
@@ -88,13 +118,18 @@ public class GoogleTokenAuthenticationFilter extends OncePerRequestFilter {
                             oauth2User.getAuthorities()
                     );
 
-            // 8. Guarda en SecurityContext
+            // 9. Guarda en SecurityContext
             SecurityContextHolder.getContext().setAuthentication(authentication);
             log.debug("User authenticated - Google ID: {}, Email: {}", googleId, email);
 
+        } catch (TokenInfoUnavailableException e) {
+            // Google no respondió: el token no es inválido, no cuenta como fallo
+            log.warn("Token could not be validated: {}", e.getMessage());
+            VALIDATION_FAILED.write(response);
+            return;
         } catch (Exception e) {
             log.error("Token validation filter error", e);
-            handleUnauthorized(response, "Token validation failed");
+            VALIDATION_FAILED.write(response);
             return;
         }
 
@@ -122,25 +157,54 @@ public class GoogleTokenAuthenticationFilter extends OncePerRequestFilter {
     }
 
     /**
-     * Maneja respuesta 401
+     * Cuenta el token rechazado para la IP y responde 401
      */
-    private void handleUnauthorized(
+    private void handleRejected(
             HttpServletResponse response,
-            String message
+            String clientIp,
+            ErrorBody body
     ) throws IOException {
+        failureThrottle.recordFailure(clientIp);
+        body.write(response);
+    }
+
+    /**
+     * JSON de error pre-codificado: {"status":..,"error":..,"message":..,"timestamp":"<ahora>"}
+     */
+    private static final class ErrorBody {
 
-        response.setContentType("application/json");
-        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        private static final byte[] SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
 
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now().toString());
-        errorResponse.put("status", 401);
-        errorResponse.put("error", "Unauthorized");
-        errorResponse.put("message", message);
+        private final int status;
+        private final byte[] prefix;
 
-        response.getWriter()
-                .write(objectMapper.writeValueAsString(errorResponse));
-        response.getWriter().flush();
+        private ErrorBody(int status, byte[] prefix) {
+            this.status = status;
+            this.prefix = prefix;
+        }
+
+        static ErrorBody of(int status, String error, String message) {
+            JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+            String prefix = "{\"status\":" + status
+                    + ",\"error\":\"" + new String(encoder.quoteAsString(error))
+                    + "\",\"message\":\"" + new String(encoder.quoteAsString(message))
+                    + "\",\"timestamp\":\"";
+            return new ErrorBody(status, prefix.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void write(HttpServletResponse response) throws IOException {
+            byte[] timestamp = LocalDateTime.now().toString().getBytes(StandardCharsets.US_ASCII);
+
+            response.setStatus(status);
+            response.setContentType("application/json");
+            response.setContentLength(prefix.length + timestamp.length + SUFFIX.length);
+
+            ServletOutputStream out = response.getOutputStream();
+            out.write(prefix);
+            out.write(timestamp);
+            out.write(SUFFIX);
+            out.flush();
+        }
     }
 
     /**
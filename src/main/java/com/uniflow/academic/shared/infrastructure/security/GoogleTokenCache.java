@@ -0,0 +1,205 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache acotado de tokens ya validados por Google
+ * La llave es el SHA-256 del token (nunca se guarda el token en claro)
+ * y cada entrada expira con el propio token (exp / expires_in),
+ * limitado por app.security.google.token-cache.max-ttl
+ *
+ * Una segunda capa guarda la misma validación por stale-grace adicional
+ * (sin pasar del exp del token) y solo se consulta cuando tokeninfo
+ * no está disponible (stale-while-revalidate)
+ *
+ * Los tokens rechazados por Google se recuerdan por negative-ttl
+ * para no repetir la llamada cuando un cliente reintenta con un token muerto
+ */
+@Slf4j
+@Component
+public class GoogleTokenCache {
+
+    static final String CACHE_NAME = "google.tokeninfo";
+    static final String REJECTED_CACHE_NAME = "google.tokeninfo.rejected";
+
+    private final Cache<String, CachedToken> cache;
+    private final Cache<String, CachedToken> staleCache;
+    private final Cache<String, Boolean> rejected;
+    private final Duration maxTtl;
+    private final Duration staleGrace;
+
+    public GoogleTokenCache(GoogleAuthProperties properties, MeterRegistry meterRegistry) {
+        GoogleAuthProperties.TokenCache config = properties.getTokenCache();
+        this.maxTtl = config.getMaxTtl();
+        this.staleGrace = config.getStaleGrace();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        this.staleCache = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfter(new TokenExpiry())
+                .build();
+        this.rejected = Caffeine.newBuilder()
+                .maximumSize(config.getMaxSize())
+                .expireAfterWrite(config.getNegativeTtl())
+                .recordStats()
+                .build();
+
+        // Expone cache.gets{result=hit|miss}, cache.evictions, cache.size
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, rejected, REJECTED_CACHE_NAME);
+    }
+
+    /**
+     * Retorna la información del token si fue validada y sigue vigente
+     *
+     * @param accessToken Token recibido en el header Authorization
+     * @return Map con la información del token, null si no está en cache
+     */
+    public Map<String, Object> get(String accessToken) {
+        CachedToken cached = cache.getIfPresent(hash(accessToken));
+        return cached != null ? cached.tokenInfo() : null;
+    }
+
+    /**
+     * Retorna una validación vencida pero dentro de la ventana de gracia
+     * Solo debe usarse cuando tokeninfo no está disponible
+     *
+     * @param accessToken Token recibido en el header Authorization
+     * @return Map con la información del token, null si no hay validación reciente
+     */
+    public Map<String, Object> getStale(String accessToken) {
+        CachedToken cached = staleCache.getIfPresent(hash(accessToken));
+        return cached != null ? cached.tokenInfo() : null;
+    }
+
+    /**
+     * Guarda el resultado de una validación exitosa hasta que el token expire
+     */
+    public void put(String accessToken, Map<String, Object> tokenInfo) {
+        Duration untilExpiry = untilExpiry(tokenInfo);
+        Duration ttl = min(untilExpiry, maxTtl);
+        if (ttl.isZero() || ttl.isNegative()) {
+            log.debug("Token already expired, skipping cache");
+            return;
+        }
+
+        String key = hash(accessToken);
+        Map<String, Object> info = Collections.unmodifiableMap(new HashMap<>(tokenInfo));
+        cache.put(key, new CachedToken(info, ttl.toNanos()));
+
+        if (staleGrace.isPositive()) {
+            staleCache.put(key, new CachedToken(info, min(untilExpiry, maxTtl.plus(staleGrace)).toNanos()));
+        }
+    }
+
+    /**
+     * Indica si Google rechazó este token hace menos de negative-ttl
+     */
+    public boolean isRejected(String accessToken) {
+        return rejected.getIfPresent(hash(accessToken)) != null;
+    }
+
+    /**
+     * Recuerda un token rechazado por Google (4xx o firma/claims inválidos)
+     * No debe usarse cuando Google simplemente no respondió
+     */
+    public void putRejected(String accessToken) {
+        rejected.put(hash(accessToken), Boolean.TRUE);
+    }
+
+    /**
+     * Tiempo restante del token a partir de exp o expires_in
+     * Sin esa información se asume que vive lo suficiente (max-ttl + stale-grace)
+     */
+    private Duration untilExpiry(Map<String, Object> tokenInfo) {
+        Long exp = asLong(tokenInfo.get("exp"));
+        if (exp != null) {
+            return Duration.between(Instant.now(), Instant.ofEpochSecond(exp));
+        }
+
+        Long expiresIn = asLong(tokenInfo.get("expires_in"));
+        if (expiresIn != null) {
+            return Duration.ofSeconds(expiresIn);
+        }
+
+        return maxTtl.plus(staleGrace);
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    /**
+     * Google retorna exp / expires_in como String en tokeninfo
+     * y como Instant o Number en los claims de un JWT
+     */
+    private static Long asLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof Instant instant) {
+            return instant.getEpochSecond();
+        }
+        if (value instanceof String text && !text.isBlank()) {
+            try {
+                return Long.parseLong(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    static String hash(String accessToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private record CachedToken(Map<String, Object> tokenInfo, long ttlNanos) {
+    }
+
+    /**
+     * Expiración variable: cada entrada vive lo que le queda al token
+     */
+    private static final class TokenExpiry implements Expiry<String, CachedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedToken value, long currentTime, long currentDuration) {
+            return value.ttlNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
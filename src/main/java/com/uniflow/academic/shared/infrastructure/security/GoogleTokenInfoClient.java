@@ -0,0 +1,253 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRequestRetryStrategy;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequest;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.NoHttpResponseException;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.net.URIBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Cliente dedicado para https://oauth2.googleapis.com/tokeninfo
+ * Pool de conexiones HTTP/1.1 persistentes (keep-alive), límite por ruta
+ * y timeouts separados: conexión, lectura, espera del pool y deadline total
+ *
+ * Métricas:
+ * - google.tokeninfo.call{outcome=valid|rejected|error}: latencia de la llamada
+ * - google.tokeninfo.connection.acquire: espera por una conexión del pool
+ * - httpcomponents.httpclient.pool.*{httpclient=google-tokeninfo}: estado del pool
+ */
+@Slf4j
+@Component
+public class GoogleTokenInfoClient implements DisposableBean {
+
+    static final String POOL_NAME = "google-tokeninfo";
+
+    private static final TypeReference<Map<String, Object>> TOKEN_INFO_TYPE = new TypeReference<>() {
+    };
+
+    private final URI tokenInfoUri;
+    private final Duration totalTimeout;
+    private final CloseableHttpClient httpClient;
+    private final ScheduledExecutorService deadlines;
+    private final ObjectReader tokenInfoReader;
+    private final MeterRegistry meterRegistry;
+
+    public GoogleTokenInfoClient(
+            GoogleAuthProperties properties,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry
+    ) {
+        GoogleAuthProperties.TokenInfo config = properties.getTokenInfo();
+        this.tokenInfoUri = URI.create(config.getUri());
+        this.totalTimeout = config.getTotalTimeout();
+        this.tokenInfoReader = objectMapper.readerFor(TOKEN_INFO_TYPE);
+        this.meterRegistry = meterRegistry;
+
+        TimedConnectionManager connectionManager = new TimedConnectionManager(
+                Timer.builder("google.tokeninfo.connection.acquire")
+                        .description("Espera por una conexión del pool de tokeninfo")
+                        .publishPercentileHistogram()
+                        .register(meterRegistry)
+        );
+        connectionManager.setMaxTotal(config.getMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.of(config.getConnectTimeout()))
+                .setSocketTimeout(Timeout.of(config.getReadTimeout()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+                .build());
+
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(config.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(config.getReadTimeout()))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(config.getIdleTimeout()))
+                .disableCookieManagement()
+                .setRetryStrategy(new StaleConnectionRetryStrategy())
+                .build();
+
+        this.deadlines = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "tokeninfo-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME)
+                .bindTo(meterRegistry);
+    }
+
+    /**
+     * Consulta tokeninfo para un access token
+     *
+     * @param accessToken Token recibido en el header Authorization
+     * @return información del token, null si Google lo rechaza (4xx)
+     * @throws TokenInfoUnavailableException si Google no responde a tiempo o falla (5xx)
+     */
+    public Map<String, Object> fetch(String accessToken) {
+        HttpGet request = new HttpGet(tokenInfoUri(accessToken));
+        ScheduledFuture<?> deadline = deadlines.schedule(
+                request::cancel, totalTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+
+        try {
+            TokenInfoResponse response = httpClient.execute(request, GoogleTokenInfoClient::readResponse);
+            Map<String, Object> tokenInfo = toTokenInfo(response);
+            outcome = tokenInfo != null ? "valid" : "rejected";
+            return tokenInfo;
+        } catch (IOException e) {
+            if (request.isCancelled()) {
+                throw new TokenInfoUnavailableException(
+                        "tokeninfo exceeded total timeout of " + totalTimeout.toMillis() + " ms", e);
+            }
+            throw new TokenInfoUnavailableException("tokeninfo request failed: " + e.getMessage(), e);
+        } finally {
+            deadline.cancel(false);
+            sample.stop(meterRegistry.timer("google.tokeninfo.call", "outcome", outcome));
+        }
+    }
+
+    /**
+     * Lee el cuerpo completo y no lanza nada propio: así la conexión siempre
+     * vuelve sana al pool y los errores se deciden después de execute()
+     */
+    private static TokenInfoResponse readResponse(ClassicHttpResponse response) throws IOException {
+        HttpEntity entity = response.getEntity();
+        byte[] body = entity != null ? EntityUtils.toByteArray(entity) : null;
+        return new TokenInfoResponse(response.getCode(), body);
+    }
+
+    private Map<String, Object> toTokenInfo(TokenInfoResponse response) throws IOException {
+        int status = response.status();
+        if (status == 200 && response.body() != null) {
+            return tokenInfoReader.readValue(response.body());
+        }
+        if (status >= 400 && status < 500) {
+            log.debug("tokeninfo rejected token with status {}", status);
+            return null;
+        }
+        throw new TokenInfoUnavailableException("tokeninfo responded with status " + status);
+    }
+
+    /**
+     * El token va como parámetro codificado, nunca concatenado
+     */
+    private URI tokenInfoUri(String accessToken) {
+        try {
+            return new URIBuilder(tokenInfoUri)
+                    .addParameter("access_token", accessToken)
+                    .build();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Invalid tokeninfo URI", e);
+        }
+    }
+
+    private record TokenInfoResponse(int status, byte[] body) {
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        deadlines.shutdownNow();
+        httpClient.close();
+    }
+
+    /**
+     * Un único reintento cuando el servidor cerró una conexión keep-alive
+     * antes de responder (NoHttpResponseException); el GET es idempotente
+     * Nunca reintenta respuestas (5xx, 429) ni peticiones canceladas por el deadline
+     */
+    private static final class StaleConnectionRetryStrategy implements HttpRequestRetryStrategy {
+
+        @Override
+        public boolean retryRequest(HttpRequest request, IOException exception, int execCount, HttpContext context) {
+            return execCount <= 1
+                    && exception instanceof NoHttpResponseException
+                    && !(request instanceof HttpUriRequest uriRequest && uriRequest.isAborted());
+        }
+
+        @Override
+        public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+            return false;
+        }
+
+        @Override
+        public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {
+            return TimeValue.ZERO_MILLISECONDS;
+        }
+    }
+
+    /**
+     * Mide cuánto espera cada llamada por una conexión del pool
+     */
+    private static final class TimedConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final Timer acquireTimer;
+
+        private TimedConnectionManager(Timer acquireTimer) {
+            this.acquireTimer = acquireTimer;
+        }
+
+        @Override
+        public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+            LeaseRequest lease = super.lease(id, route, requestTimeout, state);
+            return new LeaseRequest() {
+
+                @Override
+                public ConnectionEndpoint get(Timeout timeout)
+                        throws InterruptedException, ExecutionException, TimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        return lease.get(timeout);
+                    } finally {
+                        acquireTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return lease.cancel();
+                }
+            };
+        }
+    }
+}
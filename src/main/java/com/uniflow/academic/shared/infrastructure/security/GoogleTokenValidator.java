@@ -1,55 +1,161 @@
 package com.uniflow.academic.shared.infrastructure.security;
 
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.client.RestClientException;
 import java.util.Map;
 
 /**
  * Valida tokens de Google OAuth2
  * Similar a: https://oauth2.googleapis.com/tokeninfo?access_token={token}
+ * La llamada a tokeninfo usa un cliente con pool propio (GoogleTokenInfoClient)
+ * En modo LOCAL los ID tokens (JWT) se verifican sin llamar a Google
+ * Validaciones concurrentes del mismo token comparten una sola llamada
+ *
+ * tokeninfo está protegido por un circuit breaker y un bulkhead (googleTokenInfo)
+ * Si el breaker está abierto, el bulkhead lleno o Google falla, se falla rápido
+ * y se acepta una validación reciente del mismo token (stale-grace); sin ella
+ * se lanza TokenInfoUnavailableException, que no es un rechazo del token
  */
 @Slf4j
 @Component
 public class GoogleTokenValidator {
 
-    private static final String GOOGLE_TOKENINFO_URL =
-            "https://oauth2.googleapis.com/tokeninfo";
+    static final String TOKENINFO_INSTANCE = "googleTokenInfo";
 
-    @Autowired
-    private RestTemplate restTemplate;
+    private final GoogleTokenInfoClient tokenInfoClient;
+    private final GoogleTokenCache tokenCache;
+    private final GoogleIdTokenVerifier idTokenVerifier;
+    private final GoogleAuthProperties properties;
+    private final SingleFlight<String, Map<String, Object>> inFlightValidations;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Counter staleValidations;
+
+    public GoogleTokenValidator(
+            GoogleTokenInfoClient tokenInfoClient,
+            GoogleTokenCache tokenCache,
+            GoogleIdTokenVerifier idTokenVerifier,
+            GoogleAuthProperties properties,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        this.tokenInfoClient = tokenInfoClient;
+        this.tokenCache = tokenCache;
+        this.idTokenVerifier = idTokenVerifier;
+        this.properties = properties;
+        this.inFlightValidations = new SingleFlight<>(
+                Counter.builder("google.tokeninfo.coalesced")
+                        .description("Validaciones que reutilizaron una llamada en curso para el mismo token")
+                        .register(meterRegistry)
+        );
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(TOKENINFO_INSTANCE);
+        this.bulkhead = bulkheadRegistry.bulkhead(TOKENINFO_INSTANCE);
+        this.staleValidations = Counter.builder("google.tokeninfo.stale")
+                .description("Validaciones aceptadas desde cache vencido porque tokeninfo no estaba disponible")
+                .register(meterRegistry);
+    }
 
     /**
      * Valida un token de Google
+     * Las validaciones exitosas se guardan en cache hasta que el token expira
      *
      * @param accessToken Token JWT desde Authorization header
-     * @return Map con información del token si es válido, null si no
+     * @return Map con información del token si es válido, null si fue rechazado
+     * @throws TokenInfoUnavailableException Si Google no está disponible y no hay validación reciente
      */
     public Map<String, Object> validateToken(String accessToken) {
+        Map<String, Object> cached = tokenCache.get(accessToken);
+        if (cached != null) {
+            log.debug("Token found in cache. User: {}", cached.get("email"));
+            return cached;
+        }
+
+        if (tokenCache.isRejected(accessToken)) {
+            log.debug("Token recently rejected, skipping validation");
+            return null;
+        }
+
+        // La llave es el hash, igual que en el cache: el token no queda en el mapa
+        return inFlightValidations.execute(
+                GoogleTokenCache.hash(accessToken),
+                () -> validateUncached(accessToken)
+        );
+    }
+
+    /**
+     * El token ya fue validado y sigue en cache: aceptarlo no cuesta una llamada a Google
+     */
+    public boolean isCached(String accessToken) {
+        return tokenCache.get(accessToken) != null;
+    }
+
+    /**
+     * Valida contra Google (o localmente) y guarda el resultado en cache
+     * antes de liberar a los hilos que esperan la misma validación
+     */
+    private Map<String, Object> validateUncached(String accessToken) {
+        if (properties.getValidationMode() == GoogleAuthProperties.ValidationMode.LOCAL
+                && idTokenVerifier.supports(accessToken)) {
+            try {
+                Map<String, Object> claims = idTokenVerifier.verify(accessToken);
+                if (claims != null) {
+                    tokenCache.put(accessToken, claims);
+                } else {
+                    tokenCache.putRejected(accessToken);
+                }
+                return claims;
+            } catch (TokenInfoUnavailableException e) {
+                return staleOrThrow(accessToken, e);
+            }
+        }
+
         try {
             log.debug("Validating token with Google: {}",
-                    accessToken.substring(0, 20) + "...");
-
-            // Construir URL con token
-            String url = GOOGLE_TOKENINFO_URL + "?access_token=" + accessToken;
+                    accessToken.substring(0, Math.min(20, accessToken.length())) + "...");
 
-            // Llamar a Google
-            Map<String, Object> response = restTemplate.getForObject(
-                    url,
-                    Map.class
+            Map<String, Object> response = circuitBreaker.executeSupplier(
+                    Bulkhead.decorateSupplier(bulkhead, () -> tokenInfoClient.fetch(accessToken))
             );
 
-            assert response != null;
+            if (response == null) {
+                log.warn("Token rejected by Google");
+                tokenCache.putRejected(accessToken);
+                return null;
+            }
             log.debug("Token validated successfully. User: {}",
                     response.get("email"));
 
+            tokenCache.put(accessToken, response);
             return response;
 
-        } catch (RestClientException e) {
-            log.warn("Token validation failed: {}", e.getMessage());
-            return null;
+        } catch (CallNotPermittedException | BulkheadFullException | TokenInfoUnavailableException e) {
+            return staleOrThrow(accessToken, e);
+        }
+    }
+
+    /**
+     * Google no está disponible: acepta una validación reciente si existe
+     */
+    private Map<String, Object> staleOrThrow(String accessToken, RuntimeException cause) {
+        Map<String, Object> stale = tokenCache.getStale(accessToken);
+        if (stale != null) {
+            staleValidations.increment();
+            log.warn("tokeninfo unavailable ({}), accepting recent validation. User: {}",
+                    cause.getMessage(), stale.get("email"));
+            return stale;
+        }
+        if (cause instanceof TokenInfoUnavailableException unavailable) {
+            throw unavailable;
         }
+        throw new TokenInfoUnavailableException("tokeninfo unavailable: " + cause.getMessage(), cause);
     }
-}
\ No newline at end of file
+}
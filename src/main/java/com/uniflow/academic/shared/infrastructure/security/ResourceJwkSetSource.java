@@ -0,0 +1,44 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSetCacheRefreshEvaluator;
+import com.nimbusds.jose.jwk.source.JWKSetSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+
+/**
+ * JWKS leído desde un Resource de Spring (file: o classpath:)
+ * Permite reemplazar el endpoint de Google por un archivo local
+ */
+public class ResourceJwkSetSource implements JWKSetSource<SecurityContext> {
+
+    private final Resource resource;
+
+    public ResourceJwkSetSource(Resource resource) {
+        this.resource = resource;
+    }
+
+    @Override
+    public JWKSet getJWKSet(
+            JWKSetCacheRefreshEvaluator refreshEvaluator,
+            long currentTime,
+            SecurityContext context
+    ) throws KeySourceException {
+        try (InputStream in = resource.getInputStream()) {
+            return JWKSet.parse(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException | ParseException e) {
+            throw new KeySourceException("Unable to read JWK set from " + resource, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        // Nada que liberar
+    }
+}
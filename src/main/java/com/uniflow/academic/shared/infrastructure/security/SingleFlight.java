@@ -0,0 +1,72 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Deduplica llamadas concurrentes con la misma llave
+ * El primer hilo ejecuta la llamada; los demás esperan y reciben
+ * el mismo resultado (o la misma excepción)
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedCalls;
+
+    public SingleFlight(Counter coalescedCalls) {
+        this.coalescedCalls = coalescedCalls;
+    }
+
+    /**
+     * Ejecuta la llamada o se une a la que ya está en curso para la misma llave
+     *
+     * @param key Llave de la llamada
+     * @param call Llamada a ejecutar si no hay otra en curso
+     * @return Resultado compartido, puede ser null
+     */
+    public V execute(K key, Supplier<V> call) {
+        CompletableFuture<V> leader = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, leader);
+
+        if (existing != null) {
+            coalescedCalls.increment();
+            return await(existing);
+        }
+
+        try {
+            V value = call.get();
+            leader.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    /**
+     * Llamadas actualmente en curso
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+/**
+ * tokeninfo no respondió a tiempo o respondió con error del servidor
+ * No significa que el token sea inválido
+ */
+public class TokenInfoUnavailableException extends RuntimeException {
+
+    public TokenInfoUnavailableException(String message) {
+        super(message);
+    }
+
+    public TokenInfoUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
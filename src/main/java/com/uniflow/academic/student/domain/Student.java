@@ -1,5 +1,6 @@
 package com.uniflow.academic.student.domain;
 
+import com.uniflow.academic.shared.domain.UuidV7;
 import com.uniflow.academic.student.domain.exception.InvalidStudentException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,7 +8,6 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 /**
  * Domain aggregate representing a student authenticated via an OAuth provider.
@@ -59,7 +59,7 @@ public class Student {
             String accessToken
     ) {
         Student student = Student.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UuidV7.randomUuid().toString())
                 .name(name)
                 .email(email)
                 .provider(provider)
@@ -1,5 +1,6 @@
 package com.uniflow.academic.student.infrastructure.persistence.postgres;
 
+import com.uniflow.academic.shared.infrastructure.persistence.UuidIds;
 import com.uniflow.academic.student.domain.Student;
 import org.springframework.stereotype.Component;
 
@@ -11,7 +12,7 @@ public class StudentEntityMapper {
             return null;
         }
         return StudentEntity.builder()
-                .id(student.getId())
+                .id(UuidIds.of(student.getId()))
                 .name(student.getName())
                 .email(student.getEmail())
                 .provider(student.getProvider())
@@ -29,7 +30,7 @@ public class StudentEntityMapper {
             return null;
         }
         return Student.builder()
-                .id(entity.getId())
+                .id(UuidIds.toString(entity.getId()))
                 .name(entity.getName())
                 .email(entity.getEmail())
                 .provider(entity.getProvider())
@@ -3,8 +3,9 @@ package com.uniflow.academic.student.infrastructure.persistence.postgres;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
+import java.util.UUID;
 
-public interface StudentJpaRepository extends JpaRepository<StudentEntity, String> {
+public interface StudentJpaRepository extends JpaRepository<StudentEntity, UUID> {
 
     Optional<StudentEntity> findByProviderAndProviderId(String provider, String providerId);
 }
@@ -1,5 +1,6 @@
 package com.uniflow.academic.student.infrastructure.persistence.postgres;
 
+import com.uniflow.academic.shared.infrastructure.persistence.UuidIds;
 import com.uniflow.academic.student.application.ports.out.StudentRepository;
 import com.uniflow.academic.student.domain.Student;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +21,7 @@ public class StudentPostgresAdapter implements StudentRepository {
     public Student save(Student student) {
         log.debug("Saving new student {}", student.getEmail());
         StudentEntity entity = mapper.toEntity(student);
-        StudentEntity saved = jpaRepository.save(entity);
+        StudentEntity saved = jpaRepository.save(entity.markNew());
         return mapper.toDomain(saved);
     }
 
@@ -40,7 +41,8 @@ public class StudentPostgresAdapter implements StudentRepository {
 
     @Override
     public Optional<Student> findById(String studentId) {
-        return jpaRepository.findById(studentId)
+        return UuidIds.parse(studentId)
+                .flatMap(jpaRepository::findById)
                 .map(mapper::toDomain);
     }
 }
@@ -1,5 +1,6 @@
 package com.uniflow.academic.student.infrastructure.web.exception_handler;
 
+import com.uniflow.academic.shared.infrastructure.security.TokenInfoUnavailableException;
 import com.uniflow.academic.student.domain.exception.InvalidStudentException;
 import com.uniflow.academic.student.domain.exception.StudentNotFoundException;
 import lombok.Builder;
@@ -34,6 +35,13 @@ public class StudentExceptionHandler {
                 .body(ErrorResponse.of(HttpStatus.BAD_REQUEST, ex.getMessage()));
     }
 
+    @ExceptionHandler(TokenInfoUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleTokenInfoUnavailable(TokenInfoUnavailableException ex) {
+        log.warn("Google token could not be validated: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ErrorResponse.of(HttpStatus.SERVICE_UNAVAILABLE, "Google token validation unavailable"));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidation(MethodArgumentNotValidException ex) {
         Map<String, String> errors = new HashMap<>();
@@ -0,0 +1,13 @@
+package com.uniflow.academic.subject.application.ports.in;
+
+/**
+ * Bring the subject counters, search index and caches in line after the
+ * database removed every subject of a period (ON DELETE CASCADE).
+ */
+public interface ForgetPeriodSubjectsCommand {
+
+    /**
+     * Must run in the transaction that deleted the period
+     */
+    void execute(String periodId, String studentId);
+}
@@ -0,0 +1,13 @@
+package com.uniflow.academic.subject.application.ports.in;
+
+import com.uniflow.academic.subject.domain.PeriodSchedule;
+
+import java.util.List;
+
+public interface GetScheduleConflictsQuery {
+
+    /**
+     * Every pair of subjects of the period whose classes overlap
+     */
+    List<PeriodSchedule.Conflict> execute(String periodId, String studentId);
+}
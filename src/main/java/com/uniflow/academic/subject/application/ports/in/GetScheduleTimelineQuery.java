@@ -0,0 +1,44 @@
+package com.uniflow.academic.subject.application.ports.in;
+
+import com.uniflow.academic.subject.domain.ScheduleSlot;
+import com.uniflow.academic.subject.domain.WeeklyTimeline;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Schedule lookups over the subjects of the student's active period.
+ */
+public interface GetScheduleTimelineQuery {
+
+    /**
+     * The class in progress and the next class at the given time
+     *
+     * @param studentId The student ID
+     * @param at Local time of the student
+     */
+    NextClassResponse nextClass(String studentId, LocalDateTime at);
+
+    /**
+     * Free ranges per day
+     *
+     * @param studentId The student ID
+     * @param request Days and time window to look at
+     */
+    FreeSlotsResponse freeSlots(String studentId, FreeSlotsRequest request);
+
+    record NextClassResponse(
+            String periodId,
+            WeeklyTimeline.ClassOccurrence current,
+            WeeklyTimeline.ClassOccurrence next
+    ) {
+    }
+
+    record FreeSlotsRequest(List<DayOfWeek> days, LocalTime from, LocalTime to, int minMinutes) {
+    }
+
+    record FreeSlotsResponse(String periodId, List<ScheduleSlot> slots) {
+    }
+}
@@ -1,10 +1,9 @@
 package com.uniflow.academic.subject.application.ports.in;
 
-import com.uniflow.academic.subject.domain.Subject;
-
-import java.util.List;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPage;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPageRequest;
 
 public interface GetSubjectsByPeriodQuery {
 
-    List<Subject> execute(String periodId, String studentId);
+    SubjectPage execute(String periodId, String studentId, SubjectPageRequest page);
 }
@@ -1,11 +1,15 @@
 package com.uniflow.academic.subject.application.ports.in;
 
-import com.uniflow.academic.subject.domain.Subject;
 import com.uniflow.academic.subject.application.ports.out.dto.SubjectFilter;
-
-import java.util.List;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPage;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPageRequest;
 
 public interface GetSubjectsQuery {
 
-    List<Subject> execute(String studentId, SubjectFilter filter);
+    /**
+     * Without a search term, subjects are paged newest first with a keyset cursor.
+     * With a search term, only the best {@code limit} matches are returned
+     * (ranked results have no next cursor).
+     */
+    SubjectPage execute(String studentId, SubjectFilter filter, SubjectPageRequest page);
 }
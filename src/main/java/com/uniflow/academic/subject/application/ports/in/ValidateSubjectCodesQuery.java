@@ -0,0 +1,22 @@
+package com.uniflow.academic.subject.application.ports.in;
+
+import com.uniflow.academic.subject.application.ports.out.dto.ValidateSubjectCodeResponse;
+
+import java.util.List;
+
+/**
+ * Batch variant of {@link ValidateSubjectCodeQuery} for many codes of one period.
+ */
+public interface ValidateSubjectCodesQuery {
+
+    int MAX_CODES = 500;
+
+    /**
+     * @return One result per requested code, in request order
+     */
+    List<ValidateSubjectCodeResponse> execute(
+            List<String> codes,
+            String periodId,
+            String studentId
+    );
+}
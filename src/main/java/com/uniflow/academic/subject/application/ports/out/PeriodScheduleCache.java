@@ -0,0 +1,26 @@
+package com.uniflow.academic.subject.application.ports.out;
+
+import com.uniflow.academic.subject.domain.PeriodSchedule;
+
+import java.util.function.Supplier;
+
+public interface PeriodScheduleCache {
+    /**
+     * Get the compiled schedule of a period, compiling it on a miss.
+     *
+     * @param studentId The student ID
+     * @param periodId The period ID
+     * @param loader Compiles the schedule from persistence on a miss
+     * @return The compiled period schedule
+     */
+    PeriodSchedule get(String studentId, String periodId, Supplier<PeriodSchedule> loader);
+
+    /**
+     * Drop the compiled schedule of a period.
+     * Inside a transaction the entry is dropped again after commit.
+     *
+     * @param studentId The student ID
+     * @param periodId The period ID
+     */
+    void evict(String studentId, String periodId);
+}
@@ -0,0 +1,26 @@
+package com.uniflow.academic.subject.application.ports.out;
+
+import com.uniflow.academic.subject.domain.PeriodSubjectCodes;
+
+import java.util.function.Supplier;
+
+public interface PeriodSubjectCodesCache {
+    /**
+     * Get the subject codes of a period, loading them on a miss.
+     *
+     * @param studentId The student ID
+     * @param periodId The period ID
+     * @param loader Loads the codes from persistence on a miss
+     * @return The codes of the period
+     */
+    PeriodSubjectCodes get(String studentId, String periodId, Supplier<PeriodSubjectCodes> loader);
+
+    /**
+     * Drop the codes of a period.
+     * Inside a transaction the entry is dropped again after commit.
+     *
+     * @param studentId The student ID
+     * @param periodId The period ID
+     */
+    void evict(String studentId, String periodId);
+}
@@ -1,27 +1,66 @@
 package com.uniflow.academic.subject.application.ports.out;
 
 import com.uniflow.academic.subject.application.ports.out.dto.SubjectFilter;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPage;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPageRequest;
 import com.uniflow.academic.subject.application.ports.out.dto.SubjectStatisticsResponse;
 import com.uniflow.academic.subject.domain.Subject;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface SubjectRepository {
 
     Subject save(Subject subject);
 
+    /**
+     * Insert a new subject in one statement, relying on the unique code index
+     * instead of a prior existence check
+     *
+     * @return The inserted subject; empty if the period does not belong to the
+     * student or the code is already used in the period
+     */
+    Optional<Subject> insertIfAbsent(Subject subject);
+
     Subject update(Subject subject);
 
     Optional<Subject> findById(String subjectId, String studentId);
 
-    List<Subject> findAll(String studentId, SubjectFilter filter);
+    /**
+     * Find a subject and lock its row until the end of the transaction
+     */
+    Optional<Subject> findByIdForUpdate(String subjectId, String studentId);
+
+    /**
+     * Every subject of the student, newest first; loads the search index
+     */
+    List<Subject> findAll(String studentId);
+
+    /**
+     * One keyset page of subjects, newest first (created_at DESC, id DESC).
+     * The search term of the filter is ignored.
+     */
+    SubjectPage findPage(String studentId, SubjectFilter filter, SubjectPageRequest page);
 
     List<Subject> findByPeriodId(String periodId, String studentId);
 
     boolean existsByCode(String code, String periodId, String studentId, String excludeSubjectId);
 
-    void delete(String subjectId, String studentId);
+    /**
+     * Which of the given codes are already used in the period, ignoring case
+     *
+     * @return The used codes, lower-cased
+     */
+    Set<String> findExistingCodes(Collection<String> codes, String periodId, String studentId);
+
+    /**
+     * Delete a subject of the student in a single statement
+     *
+     * @return The deleted subject; empty if it does not exist for the student
+     */
+    Optional<Subject> delete(String subjectId, String studentId);
 
     boolean hasAssociatedTasks(String subjectId);
 
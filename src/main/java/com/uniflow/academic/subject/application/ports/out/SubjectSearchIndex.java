@@ -0,0 +1,46 @@
+package com.uniflow.academic.subject.application.ports.out;
+
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectFilter;
+import com.uniflow.academic.subject.domain.Subject;
+
+import java.util.List;
+import java.util.function.Function;
+
+public interface SubjectSearchIndex {
+    /**
+     * Search the subjects of a student by name, code and professor.
+     * Matches whole words, prefixes and small typos; best matches first.
+     * The remaining filter fields are applied to the matches.
+     *
+     * @param studentId The student ID
+     * @param filter Filter with a non-blank search term
+     * @param loader Loads every subject of the student when the index is not built yet
+     * @return Matching subjects ordered by relevance
+     */
+    List<Subject> search(String studentId, SubjectFilter filter, Function<String, List<Subject>> loader);
+
+    /**
+     * Add or replace a subject in its student's index.
+     * Inside a transaction the change is applied after commit.
+     *
+     * @param subject The saved subject
+     */
+    void index(Subject subject);
+
+    /**
+     * Remove a subject from its student's index.
+     * Inside a transaction the change is applied after commit.
+     *
+     * @param studentId The student ID
+     * @param subjectId The subject ID
+     */
+    void remove(String studentId, String subjectId);
+
+    /**
+     * Drop a student's index; the next search rebuilds it from the database.
+     * Inside a transaction the change is applied after commit.
+     *
+     * @param studentId The student ID
+     */
+    void evict(String studentId);
+}
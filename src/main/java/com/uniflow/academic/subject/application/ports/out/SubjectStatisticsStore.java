@@ -0,0 +1,40 @@
+package com.uniflow.academic.subject.application.ports.out;
+
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectStatisticsResponse;
+import com.uniflow.academic.subject.domain.Subject;
+
+import java.util.Optional;
+
+/**
+ * Per-student subject statistics kept up to date by the write use cases.
+ */
+public interface SubjectStatisticsStore {
+
+    /**
+     * Read the counters of a student
+     *
+     * @return Empty if the student has no counters yet
+     */
+    Optional<SubjectStatisticsResponse> find(String studentId);
+
+    /**
+     * Apply a subject change to the counters, in the caller's transaction
+     *
+     * @param before The subject before the change; null on create
+     * @param after The subject after the change; null on delete
+     */
+    void record(Subject before, Subject after);
+
+    /**
+     * Recompute every student's counters from the subjects table
+     *
+     * @return Number of students rebuilt
+     */
+    int rebuild();
+
+    /**
+     * Recompute one student's counters from the subjects table, in the caller's
+     * transaction. For changes made by the database itself (cascading deletes).
+     */
+    void rebuild(String studentId);
+}
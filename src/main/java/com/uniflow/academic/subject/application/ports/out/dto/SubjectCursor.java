@@ -0,0 +1,56 @@
+package com.uniflow.academic.subject.application.ports.out.dto;
+
+import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for subject listing.
+ * Encodes the (createdAt, id) of the last subject returned, in the
+ * same order used by the listing: created_at DESC, id DESC.
+ */
+@Getter
+@AllArgsConstructor
+public class SubjectCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private LocalDateTime createdAt;
+    private String id;
+
+    /**
+     * Encode the cursor as base64url text safe for query strings
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor received from a client
+     *
+     * @throws InvalidSubjectException if the cursor was not produced by {@link #encode()}
+     */
+    public static SubjectCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator <= 0 || separator == raw.length() - 1) {
+                throw new InvalidSubjectException("Invalid pagination cursor");
+            }
+            return new SubjectCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    raw.substring(separator + 1)
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidSubjectException("Invalid pagination cursor", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.uniflow.academic.subject.application.ports.out.dto;
+
+import com.uniflow.academic.subject.domain.Subject;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One page of subjects. nextCursor is null on the last page.
+ */
+@Value
+@Builder
+public class SubjectPage {
+    List<Subject> data;
+    Integer limit;
+    Boolean hasNext;
+    String nextCursor;
+}
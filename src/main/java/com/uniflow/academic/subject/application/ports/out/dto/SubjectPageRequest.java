@@ -0,0 +1,38 @@
+package com.uniflow.academic.subject.application.ports.out.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Keyset page request for subject listings.
+ * {@code after} is the nextCursor of the previous page; absent for the first page.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubjectPageRequest {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 100;
+
+    @Builder.Default
+    private Integer limit = DEFAULT_LIMIT;
+
+    private String after;
+
+    public void validate() {
+        if (limit == null || limit < 1 || limit > MAX_LIMIT) {
+            this.limit = DEFAULT_LIMIT;
+        }
+    }
+
+    public boolean hasCursor() {
+        return after != null && !after.isBlank();
+    }
+
+    public static SubjectPageRequest firstPage() {
+        return SubjectPageRequest.builder().build();
+    }
+}
@@ -6,7 +6,9 @@ import lombok.Value;
 @Value
 @Builder
 public class ValidateSubjectCodeResponse {
+    String code;
     boolean isValid;
     boolean isAvailable;
     String message;
+    Long debounceMs;
 }
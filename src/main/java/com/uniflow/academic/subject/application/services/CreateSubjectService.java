@@ -3,6 +3,8 @@ package com.uniflow.academic.subject.application.services;
 import com.uniflow.academic.period.application.ports.out.PeriodRepository;
 import com.uniflow.academic.subject.application.ports.in.CreateSubjectCommand;
 import com.uniflow.academic.subject.application.ports.out.SubjectRepository;
+import com.uniflow.academic.subject.application.ports.out.SubjectSearchIndex;
+import com.uniflow.academic.subject.application.ports.out.SubjectStatisticsStore;
 import com.uniflow.academic.subject.domain.Subject;
 import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
 import com.uniflow.academic.subject.domain.exception.SubjectCodeAlreadyExistsException;
@@ -21,21 +23,15 @@ public class CreateSubjectService implements CreateSubjectCommand {
 
     private final SubjectRepository subjectRepository;
     private final PeriodRepository periodRepository;
+    private final SubjectSearchIndex subjectSearchIndex;
+    private final SubjectStatisticsStore subjectStatisticsStore;
+    private final PeriodScheduleLoader periodScheduleLoader;
+    private final SubjectCodeRegistry subjectCodeRegistry;
 
     @Override
     public Subject execute(CreateSubjectRequest request, String studentId) {
         log.info("Creating subject {} for student {}", request.name(), studentId);
 
-        if (!periodRepository.existsByIdAndStudentId(request.periodId(), studentId)) {
-            throw new InvalidSubjectException("Period does not belong to the authenticated student");
-        }
-
-        if (subjectRepository.existsByCode(request.code(), request.periodId(), studentId, null)) {
-            throw new SubjectCodeAlreadyExistsException(
-                    "Subject code already exists in this period"
-            );
-        }
-
         List<String> schedule = request.schedule() != null
                 ? request.schedule()
                 : List.of();
@@ -52,8 +48,36 @@ public class CreateSubjectService implements CreateSubjectCommand {
                 schedule
         );
 
-        Subject saved = subjectRepository.save(subject);
+        // Ownership before the conflict check, so a foreign period is not reported as a clash.
+        // Subjects without a schedule skip it; the insert below checks ownership anyway.
+        if (periodScheduleLoader.hasSlots(subject)
+                && !periodRepository.existsByIdAndStudentId(request.periodId(), studentId)) {
+            throw notOwned();
+        }
+        periodScheduleLoader.checkConflicts(subject);
+
+        // One statement: the insert checks period ownership and code uniqueness itself
+        Subject saved = subjectRepository.insertIfAbsent(subject)
+                .orElseThrow(() -> rejection(request.periodId(), studentId));
+        subjectStatisticsStore.record(null, saved);
+        subjectSearchIndex.index(saved);
+        periodScheduleLoader.evict(saved);
+        subjectCodeRegistry.evict(saved);
         log.info("Subject {} created successfully", saved.getId());
         return saved;
     }
+
+    /**
+     * Explain a rejected insert; only runs on the failure path
+     */
+    private RuntimeException rejection(String periodId, String studentId) {
+        if (!periodRepository.existsByIdAndStudentId(periodId, studentId)) {
+            return notOwned();
+        }
+        return new SubjectCodeAlreadyExistsException("Subject code already exists in this period");
+    }
+
+    private static InvalidSubjectException notOwned() {
+        return new InvalidSubjectException("Period does not belong to the authenticated student");
+    }
 }
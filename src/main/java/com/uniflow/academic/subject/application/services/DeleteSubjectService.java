@@ -2,6 +2,9 @@ package com.uniflow.academic.subject.application.services;
 
 import com.uniflow.academic.subject.application.ports.in.DeleteSubjectCommand;
 import com.uniflow.academic.subject.application.ports.out.SubjectRepository;
+import com.uniflow.academic.subject.application.ports.out.SubjectSearchIndex;
+import com.uniflow.academic.subject.application.ports.out.SubjectStatisticsStore;
+import com.uniflow.academic.subject.domain.Subject;
 import com.uniflow.academic.subject.domain.exception.SubjectDeletionException;
 import com.uniflow.academic.subject.domain.exception.SubjectNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -16,19 +19,26 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeleteSubjectService implements DeleteSubjectCommand {
 
     private final SubjectRepository subjectRepository;
+    private final SubjectSearchIndex subjectSearchIndex;
+    private final SubjectStatisticsStore subjectStatisticsStore;
+    private final PeriodScheduleLoader periodScheduleLoader;
+    private final SubjectCodeRegistry subjectCodeRegistry;
 
     @Override
     public void execute(String subjectId, String studentId) {
         log.info("Deleting subject {} for student {}", subjectId, studentId);
 
-        subjectRepository.findById(subjectId, studentId)
-                .orElseThrow(() -> new SubjectNotFoundException("Subject not found"));
-
         if (subjectRepository.hasAssociatedTasks(subjectId)) {
             throw new SubjectDeletionException("Cannot delete subject with associated tasks");
         }
 
-        subjectRepository.delete(subjectId, studentId);
+        // The deleted row is returned, so no prior lookup is needed for the counters and caches
+        Subject subject = subjectRepository.delete(subjectId, studentId)
+                .orElseThrow(() -> new SubjectNotFoundException("Subject not found"));
+        subjectStatisticsStore.record(subject, null);
+        subjectSearchIndex.remove(studentId, subjectId);
+        periodScheduleLoader.evict(subject);
+        subjectCodeRegistry.evict(subject);
         log.info("Subject {} deleted", subjectId);
     }
 }
@@ -0,0 +1,34 @@
+package com.uniflow.academic.subject.application.services;
+
+import com.uniflow.academic.subject.application.ports.in.ForgetPeriodSubjectsCommand;
+import com.uniflow.academic.subject.application.ports.out.SubjectSearchIndex;
+import com.uniflow.academic.subject.application.ports.out.SubjectStatisticsStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * The cascaded rows are gone, so there is nothing to build per-subject deltas
+ * from: the student's counters are recomputed and the caches dropped.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ForgetPeriodSubjectsService implements ForgetPeriodSubjectsCommand {
+
+    private final SubjectStatisticsStore subjectStatisticsStore;
+    private final SubjectSearchIndex subjectSearchIndex;
+    private final PeriodScheduleLoader periodScheduleLoader;
+    private final SubjectCodeRegistry subjectCodeRegistry;
+
+    @Override
+    public void execute(String periodId, String studentId) {
+        log.debug("Forgetting subjects of period {} for student {}", periodId, studentId);
+        subjectStatisticsStore.rebuild(studentId);
+        subjectSearchIndex.evict(studentId);
+        periodScheduleLoader.evict(studentId, periodId);
+        subjectCodeRegistry.evict(studentId, periodId);
+    }
+}
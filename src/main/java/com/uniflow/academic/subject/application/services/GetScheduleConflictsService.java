@@ -0,0 +1,33 @@
+package com.uniflow.academic.subject.application.services;
+
+import com.uniflow.academic.period.application.ports.out.PeriodRepository;
+import com.uniflow.academic.subject.application.ports.in.GetScheduleConflictsQuery;
+import com.uniflow.academic.subject.domain.PeriodSchedule;
+import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetScheduleConflictsService implements GetScheduleConflictsQuery {
+
+    private final PeriodRepository periodRepository;
+    private final PeriodScheduleLoader periodScheduleLoader;
+
+    @Override
+    public List<PeriodSchedule.Conflict> execute(String periodId, String studentId) {
+        log.info("Fetching schedule conflicts for period {} and student {}", periodId, studentId);
+
+        if (!periodRepository.existsByIdAndStudentId(periodId, studentId)) {
+            throw new InvalidSubjectException("Period does not belong to the authenticated student");
+        }
+
+        return periodScheduleLoader.load(studentId, periodId).conflicts();
+    }
+}
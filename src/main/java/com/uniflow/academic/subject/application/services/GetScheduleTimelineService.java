@@ -0,0 +1,82 @@
+package com.uniflow.academic.subject.application.services;
+
+import com.uniflow.academic.period.application.ports.out.CurrentPeriodCache;
+import com.uniflow.academic.period.application.ports.out.PeriodRepository;
+import com.uniflow.academic.period.domain.Period;
+import com.uniflow.academic.subject.application.ports.in.GetScheduleTimelineQuery;
+import com.uniflow.academic.subject.domain.PeriodSchedule;
+import com.uniflow.academic.subject.domain.ScheduleSlot;
+import com.uniflow.academic.subject.domain.WeeklyTimeline;
+import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Use case: next class and free time in the active period.
+ * Both the active period and its compiled timeline are cached, so a
+ * home-screen poll does not touch the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GetScheduleTimelineService implements GetScheduleTimelineQuery {
+
+    private final PeriodRepository periodRepository;
+    private final CurrentPeriodCache currentPeriodCache;
+    private final PeriodScheduleLoader periodScheduleLoader;
+
+    @Override
+    public NextClassResponse nextClass(String studentId, LocalDateTime at) {
+        log.debug("Fetching next class for student {}", studentId);
+
+        Optional<Period> active = currentPeriodCache.get(studentId, periodRepository::findCurrentActive);
+        if (active.isEmpty()) {
+            return new NextClassResponse(null, null, null);
+        }
+
+        WeeklyTimeline timeline = timeline(studentId, active.get());
+        return new NextClassResponse(
+                active.get().getId(),
+                timeline.current(at).orElse(null),
+                timeline.next(at).orElse(null)
+        );
+    }
+
+    @Override
+    public FreeSlotsResponse freeSlots(String studentId, FreeSlotsRequest request) {
+        log.debug("Fetching free slots for student {}", studentId);
+
+        LocalTime to = request.to();
+        if (!to.equals(LocalTime.MIDNIGHT) && !to.isAfter(request.from())) {
+            throw new InvalidSubjectException("'to' must be after 'from'");
+        }
+
+        Optional<Period> active = currentPeriodCache.get(studentId, periodRepository::findCurrentActive);
+        WeeklyTimeline timeline = active
+                .map(period -> timeline(studentId, period))
+                .orElseGet(() -> PeriodSchedule.EMPTY.timeline());
+
+        List<DayOfWeek> days = request.days() == null || request.days().isEmpty()
+                ? List.of(DayOfWeek.values())
+                : request.days();
+        List<ScheduleSlot> slots = new ArrayList<>();
+        for (DayOfWeek day : days) {
+            slots.addAll(timeline.freeSlots(day, request.from(), to, request.minMinutes()));
+        }
+        return new FreeSlotsResponse(active.map(Period::getId).orElse(null), slots);
+    }
+
+    private WeeklyTimeline timeline(String studentId, Period period) {
+        return periodScheduleLoader.load(studentId, period.getId()).timeline();
+    }
+}
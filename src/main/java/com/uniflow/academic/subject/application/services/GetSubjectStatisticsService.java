@@ -2,6 +2,7 @@ package com.uniflow.academic.subject.application.services;
 
 import com.uniflow.academic.subject.application.ports.in.GetSubjectStatisticsQuery;
 import com.uniflow.academic.subject.application.ports.out.SubjectRepository;
+import com.uniflow.academic.subject.application.ports.out.SubjectStatisticsStore;
 import com.uniflow.academic.subject.application.ports.out.dto.SubjectStatisticsResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -15,10 +16,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class GetSubjectStatisticsService implements GetSubjectStatisticsQuery {
 
     private final SubjectRepository subjectRepository;
+    private final SubjectStatisticsStore subjectStatisticsStore;
 
     @Override
     public SubjectStatisticsResponse execute(String studentId) {
         log.info("Fetching subject statistics for student {}", studentId);
-        return subjectRepository.getStatistics(studentId);
+        // Counters are maintained on write; aggregate only for students without a row yet
+        return subjectStatisticsStore.find(studentId)
+                .orElseGet(() -> subjectRepository.getStatistics(studentId));
     }
 }
@@ -3,15 +3,15 @@ package com.uniflow.academic.subject.application.services;
 import com.uniflow.academic.period.application.ports.out.PeriodRepository;
 import com.uniflow.academic.subject.application.ports.in.GetSubjectsByPeriodQuery;
 import com.uniflow.academic.subject.application.ports.out.SubjectRepository;
-import com.uniflow.academic.subject.domain.Subject;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectFilter;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPage;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPageRequest;
 import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -22,13 +22,14 @@ public class GetSubjectsByPeriodService implements GetSubjectsByPeriodQuery {
     private final PeriodRepository periodRepository;
 
     @Override
-    public List<Subject> execute(String periodId, String studentId) {
+    public SubjectPage execute(String periodId, String studentId, SubjectPageRequest page) {
         log.info("Fetching subjects for period {} and student {}", periodId, studentId);
 
         if (!periodRepository.existsByIdAndStudentId(periodId, studentId)) {
             throw new InvalidSubjectException("Period does not belong to the authenticated student");
         }
 
-        return subjectRepository.findByPeriodId(periodId, studentId);
+        SubjectFilter filter = SubjectFilter.builder().periodId(periodId).build();
+        return subjectRepository.findPage(studentId, filter, page);
     }
 }
@@ -2,7 +2,10 @@ package com.uniflow.academic.subject.application.services;
 
 import com.uniflow.academic.subject.application.ports.in.GetSubjectsQuery;
 import com.uniflow.academic.subject.application.ports.out.SubjectRepository;
+import com.uniflow.academic.subject.application.ports.out.SubjectSearchIndex;
 import com.uniflow.academic.subject.application.ports.out.dto.SubjectFilter;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPage;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPageRequest;
 import com.uniflow.academic.subject.domain.Subject;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,10 +21,23 @@ import java.util.List;
 public class GetSubjectsService implements GetSubjectsQuery {
 
     private final SubjectRepository subjectRepository;
+    private final SubjectSearchIndex subjectSearchIndex;
 
     @Override
-    public List<Subject> execute(String studentId, SubjectFilter filter) {
+    public SubjectPage execute(String studentId, SubjectFilter filter, SubjectPageRequest page) {
+        page.validate();
+        if (filter != null && filter.getSearch() != null && !filter.getSearch().isBlank()) {
+            // Search-as-you-type: served from the in-memory index, no query per keystroke
+            log.debug("Searching subjects for student {}", studentId);
+            List<Subject> matches = subjectSearchIndex.search(
+                    studentId, filter, subjectRepository::findAll);
+            return SubjectPage.builder()
+                    .data(matches.size() > page.getLimit() ? matches.subList(0, page.getLimit()) : matches)
+                    .limit(page.getLimit())
+                    .hasNext(matches.size() > page.getLimit())
+                    .build();
+        }
         log.info("Fetching subjects for student {}", studentId);
-        return subjectRepository.findAll(studentId, filter);
+        return subjectRepository.findPage(studentId, filter, page);
     }
 }
@@ -0,0 +1,73 @@
+package com.uniflow.academic.subject.application.services;
+
+import com.uniflow.academic.subject.application.ports.out.PeriodScheduleCache;
+import com.uniflow.academic.subject.application.ports.out.SubjectRepository;
+import com.uniflow.academic.subject.domain.PeriodSchedule;
+import com.uniflow.academic.subject.domain.Subject;
+import com.uniflow.academic.subject.domain.WeeklySchedule;
+import com.uniflow.academic.subject.domain.exception.ScheduleConflictException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Shared access to compiled period schedules for the subject use cases.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class PeriodScheduleLoader {
+
+    private final SubjectRepository subjectRepository;
+    private final PeriodScheduleCache periodScheduleCache;
+
+    PeriodSchedule load(String studentId, String periodId) {
+        return periodScheduleCache.get(studentId, periodId, () -> {
+            log.debug("Compiling schedule of period {} for student {}", periodId, studentId);
+            return PeriodSchedule.compile(subjectRepository.findByPeriodId(periodId, studentId));
+        });
+    }
+
+    /**
+     * Whether the subject has schedule entries that take part in conflict checks
+     */
+    boolean hasSlots(Subject subject) {
+        return !slotsOf(subject).isEmpty();
+    }
+
+    /**
+     * Reject a subject whose schedule overlaps another subject of its period.
+     * The schedule is a free-form list, so entries that do not parse are
+     * skipped here just as they are when the period schedule is compiled.
+     *
+     * @throws ScheduleConflictException on an overlap
+     */
+    void checkConflicts(Subject subject) {
+        WeeklySchedule schedule = slotsOf(subject);
+        if (schedule.isEmpty()) {
+            return;
+        }
+
+        List<Subject> clashes = load(subject.getStudentId(), subject.getPeriodId())
+                .conflictsWith(schedule, subject.getId());
+        if (!clashes.isEmpty()) {
+            String codes = clashes.stream().map(Subject::getCode).collect(Collectors.joining(", "));
+            throw new ScheduleConflictException("Schedule overlaps with subject(s) " + codes);
+        }
+    }
+
+    private WeeklySchedule slotsOf(Subject subject) {
+        return WeeklySchedule.compileLenient(subject.getSchedule());
+    }
+
+    void evict(Subject subject) {
+        evict(subject.getStudentId(), subject.getPeriodId());
+    }
+
+    void evict(String studentId, String periodId) {
+        periodScheduleCache.evict(studentId, periodId);
+    }
+}
@@ -0,0 +1,47 @@
+package com.uniflow.academic.subject.application.services;
+
+import com.uniflow.academic.period.application.ports.out.PeriodRepository;
+import com.uniflow.academic.subject.application.ports.out.PeriodSubjectCodesCache;
+import com.uniflow.academic.subject.application.ports.out.SubjectRepository;
+import com.uniflow.academic.subject.domain.PeriodSubjectCodes;
+import com.uniflow.academic.subject.domain.Subject;
+import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shared access to the cached subject codes of a period.
+ * Only periods owned by the student are ever cached, so a hit also
+ * answers the ownership check.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+class SubjectCodeRegistry {
+
+    private final SubjectRepository subjectRepository;
+    private final PeriodRepository periodRepository;
+    private final PeriodSubjectCodesCache periodSubjectCodesCache;
+
+    /**
+     * @throws InvalidSubjectException if the period does not belong to the student
+     */
+    PeriodSubjectCodes load(String studentId, String periodId) {
+        return periodSubjectCodesCache.get(studentId, periodId, () -> {
+            if (!periodRepository.existsByIdAndStudentId(periodId, studentId)) {
+                throw new InvalidSubjectException("Period does not belong to the authenticated student");
+            }
+            log.debug("Loading subject codes of period {} for student {}", periodId, studentId);
+            return PeriodSubjectCodes.of(subjectRepository.findByPeriodId(periodId, studentId));
+        });
+    }
+
+    void evict(Subject subject) {
+        evict(subject.getStudentId(), subject.getPeriodId());
+    }
+
+    void evict(String studentId, String periodId) {
+        periodSubjectCodesCache.evict(studentId, periodId);
+    }
+}
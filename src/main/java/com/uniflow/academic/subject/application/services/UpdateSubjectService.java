@@ -2,6 +2,8 @@ package com.uniflow.academic.subject.application.services;
 
 import com.uniflow.academic.subject.application.ports.in.UpdateSubjectCommand;
 import com.uniflow.academic.subject.application.ports.out.SubjectRepository;
+import com.uniflow.academic.subject.application.ports.out.SubjectSearchIndex;
+import com.uniflow.academic.subject.application.ports.out.SubjectStatisticsStore;
 import com.uniflow.academic.subject.domain.Subject;
 import com.uniflow.academic.subject.domain.exception.SubjectCodeAlreadyExistsException;
 import com.uniflow.academic.subject.domain.exception.SubjectNotFoundException;
@@ -19,12 +21,17 @@ import java.util.List;
 public class UpdateSubjectService implements UpdateSubjectCommand {
 
     private final SubjectRepository subjectRepository;
+    private final SubjectSearchIndex subjectSearchIndex;
+    private final SubjectStatisticsStore subjectStatisticsStore;
+    private final PeriodScheduleLoader periodScheduleLoader;
+    private final SubjectCodeRegistry subjectCodeRegistry;
 
     @Override
     public Subject execute(String subjectId, UpdateSubjectRequest request, String studentId) {
         log.info("Updating subject {} for student {}", subjectId, studentId);
 
-        Subject current = subjectRepository.findById(subjectId, studentId)
+        // Row lock: the statistics delta below subtracts this state
+        Subject current = subjectRepository.findByIdForUpdate(subjectId, studentId)
                 .orElseThrow(() -> new SubjectNotFoundException("Subject not found"));
 
         if (subjectRepository.existsByCode(request.code(), current.getPeriodId(), studentId, subjectId)) {
@@ -43,7 +50,13 @@ public class UpdateSubjectService implements UpdateSubjectCommand {
                 schedule
         );
 
+        periodScheduleLoader.checkConflicts(updated);
+
         Subject saved = subjectRepository.update(updated);
+        subjectStatisticsStore.record(current, saved);
+        subjectSearchIndex.index(saved);
+        periodScheduleLoader.evict(saved);
+        subjectCodeRegistry.evict(saved);
         log.info("Subject {} updated successfully", saved.getId());
         return saved;
     }
@@ -1,27 +1,35 @@
 package com.uniflow.academic.subject.application.services;
 
-import com.uniflow.academic.period.application.ports.out.PeriodRepository;
 import com.uniflow.academic.subject.application.ports.in.ValidateSubjectCodeQuery;
-import com.uniflow.academic.subject.application.ports.out.SubjectRepository;
 import com.uniflow.academic.subject.application.ports.out.dto.ValidateSubjectCodeResponse;
+import com.uniflow.academic.subject.domain.PeriodSubjectCodes;
 import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.regex.Pattern;
 
+/**
+ * Answers validate-code from the cached codes of the period; the form calls
+ * it on every keystroke, so after the first call no query is issued until a
+ * subject of the period is written.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ValidateSubjectCodeService implements ValidateSubjectCodeQuery {
 
-    private static final Pattern CODE_PATTERN = Pattern.compile("^[A-Za-z]{2,4}-?\\d{3,4}$");
+    static final Pattern CODE_PATTERN = Pattern.compile("^[A-Za-z]{2,4}-?\\d{3,4}$");
 
-    private final SubjectRepository subjectRepository;
-    private final PeriodRepository periodRepository;
+    private final SubjectCodeRegistry subjectCodeRegistry;
+
+    @Value("${app.subjects.validate-code.debounce-hint:300ms}")
+    private Duration debounceHint;
 
     @Override
     public ValidateSubjectCodeResponse execute(
@@ -39,13 +47,22 @@ public class ValidateSubjectCodeService implements ValidateSubjectCodeQuery {
             throw new InvalidSubjectException("Period is required");
         }
 
-        if (!periodRepository.existsByIdAndStudentId(periodId, studentId)) {
-            throw new InvalidSubjectException("Period does not belong to the authenticated student");
-        }
+        // Also rejects periods of other students
+        PeriodSubjectCodes codes = subjectCodeRegistry.load(studentId, periodId);
 
         boolean matchesPattern = CODE_PATTERN.matcher(code).matches();
-        boolean exists = subjectRepository.existsByCode(code, periodId, studentId, subjectId);
+        boolean exists = codes.isTaken(code, subjectId);
+
+        return result(code, matchesPattern, exists)
+                .debounceMs(debounceHint != null ? debounceHint.toMillis() : null)
+                .build();
+    }
 
+    static ValidateSubjectCodeResponse.ValidateSubjectCodeResponseBuilder result(
+            String code,
+            boolean matchesPattern,
+            boolean exists
+    ) {
         String message;
         if (!matchesPattern) {
             message = "Subject code format is invalid";
@@ -56,9 +73,9 @@ public class ValidateSubjectCodeService implements ValidateSubjectCodeQuery {
         }
 
         return ValidateSubjectCodeResponse.builder()
+                .code(code)
                 .isValid(matchesPattern)
                 .isAvailable(matchesPattern && !exists)
-                .message(message)
-                .build();
+                .message(message);
     }
 }
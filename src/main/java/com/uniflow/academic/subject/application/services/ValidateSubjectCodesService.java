@@ -0,0 +1,84 @@
+package com.uniflow.academic.subject.application.services;
+
+import com.uniflow.academic.period.application.ports.out.PeriodRepository;
+import com.uniflow.academic.subject.application.ports.in.ValidateSubjectCodesQuery;
+import com.uniflow.academic.subject.application.ports.out.SubjectRepository;
+import com.uniflow.academic.subject.application.ports.out.dto.ValidateSubjectCodeResponse;
+import com.uniflow.academic.subject.domain.PeriodSubjectCodes;
+import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Validates a whole list of codes with one ownership check and one
+ * availability query, whatever the number of codes.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ValidateSubjectCodesService implements ValidateSubjectCodesQuery {
+
+    private final SubjectRepository subjectRepository;
+    private final PeriodRepository periodRepository;
+
+    @Override
+    public List<ValidateSubjectCodeResponse> execute(
+            List<String> codes,
+            String periodId,
+            String studentId
+    ) {
+        log.info("Validating {} codes for period {} and student {}",
+                codes != null ? codes.size() : 0, periodId, studentId);
+
+        if (codes == null || codes.isEmpty()) {
+            throw new InvalidSubjectException("At least one subject code is required");
+        }
+        if (codes.size() > MAX_CODES) {
+            throw new InvalidSubjectException("At most " + MAX_CODES + " subject codes can be validated at once");
+        }
+        if (periodId == null || periodId.isBlank()) {
+            throw new InvalidSubjectException("Period is required");
+        }
+
+        if (!periodRepository.existsByIdAndStudentId(periodId, studentId)) {
+            throw new InvalidSubjectException("Period does not belong to the authenticated student");
+        }
+
+        // Only well-formed codes can be taken; the rest never reach the query
+        List<String> wellFormed = codes.stream()
+                .filter(code -> code != null && ValidateSubjectCodeService.CODE_PATTERN.matcher(code).matches())
+                .toList();
+        Set<String> existing = subjectRepository.findExistingCodes(wellFormed, periodId, studentId);
+
+        List<ValidateSubjectCodeResponse> results = new ArrayList<>(codes.size());
+        Set<String> seen = new HashSet<>();
+        for (String code : codes) {
+            boolean matchesPattern = code != null && ValidateSubjectCodeService.CODE_PATTERN.matcher(code).matches();
+            if (!matchesPattern) {
+                results.add(ValidateSubjectCodeService.result(code, false, false).build());
+                continue;
+            }
+
+            String normalized = PeriodSubjectCodes.normalize(code);
+            if (!existing.contains(normalized) && !seen.add(normalized)) {
+                results.add(ValidateSubjectCodeResponse.builder()
+                        .code(code)
+                        .isValid(true)
+                        .isAvailable(false)
+                        .message("Subject code is repeated in this request")
+                        .build());
+                continue;
+            }
+            results.add(ValidateSubjectCodeService.result(code, true, existing.contains(normalized)).build());
+        }
+        return results;
+    }
+}
@@ -0,0 +1,97 @@
+package com.uniflow.academic.subject.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiled weekly schedules of the subjects of one period.
+ * The union answers "does anything clash" with a single AND; the
+ * per-subject schedules are only scanned to name the clashing subjects.
+ */
+public final class PeriodSchedule {
+
+    public static final PeriodSchedule EMPTY = new PeriodSchedule(List.of(), WeeklySchedule.EMPTY);
+
+    private final List<Entry> entries;
+    private final WeeklySchedule union;
+    // Built on first use; a racing duplicate build is harmless
+    private volatile WeeklyTimeline timeline;
+
+    private PeriodSchedule(List<Entry> entries, WeeklySchedule union) {
+        this.entries = entries;
+        this.union = union;
+    }
+
+    public static PeriodSchedule compile(List<Subject> subjects) {
+        List<Entry> entries = new ArrayList<>(subjects.size());
+        WeeklySchedule union = WeeklySchedule.EMPTY;
+        for (Subject subject : subjects) {
+            WeeklySchedule schedule = WeeklySchedule.compileLenient(subject.getSchedule());
+            if (!schedule.isEmpty()) {
+                entries.add(new Entry(subject, schedule));
+                union = union.or(schedule);
+            }
+        }
+        return new PeriodSchedule(List.copyOf(entries), union);
+    }
+
+    /**
+     * Subjects whose schedule overlaps the given one
+     *
+     * @param excludeSubjectId Subject being updated, ignored; may be null
+     */
+    public List<Subject> conflictsWith(WeeklySchedule schedule, String excludeSubjectId) {
+        if (!union.intersects(schedule)) {
+            return List.of();
+        }
+        return entries.stream()
+                .filter(entry -> !entry.subject().getId().equals(excludeSubjectId))
+                .filter(entry -> entry.schedule().intersects(schedule))
+                .map(Entry::subject)
+                .toList();
+    }
+
+    /**
+     * Every pair of subjects with overlapping classes
+     */
+    public List<Conflict> conflicts() {
+        List<Conflict> conflicts = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                Entry first = entries.get(i);
+                Entry second = entries.get(j);
+                if (first.schedule().intersects(second.schedule())) {
+                    conflicts.add(new Conflict(
+                            first.subject(),
+                            second.subject(),
+                            first.schedule().and(second.schedule()).slots()
+                    ));
+                }
+            }
+        }
+        return conflicts;
+    }
+
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    public WeeklySchedule union() {
+        return union;
+    }
+
+    public WeeklyTimeline timeline() {
+        WeeklyTimeline built = timeline;
+        if (built == null) {
+            built = WeeklyTimeline.of(this);
+            timeline = built;
+        }
+        return built;
+    }
+
+    public record Entry(Subject subject, WeeklySchedule schedule) {
+    }
+
+    public record Conflict(Subject first, Subject second, List<ScheduleSlot> overlaps) {
+    }
+}
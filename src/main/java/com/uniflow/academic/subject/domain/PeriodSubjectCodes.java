@@ -0,0 +1,47 @@
+package com.uniflow.academic.subject.domain;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Normalized subject codes of one period, mapped to the subject using them.
+ * Codes are compared ignoring case, like the uk_subject_period_code index.
+ */
+public final class PeriodSubjectCodes {
+
+    private final Map<String, String> subjectIdByCode;
+
+    private PeriodSubjectCodes(Map<String, String> subjectIdByCode) {
+        this.subjectIdByCode = subjectIdByCode;
+    }
+
+    public static PeriodSubjectCodes of(List<Subject> subjects) {
+        Map<String, String> subjectIdByCode = new HashMap<>(subjects.size() * 2);
+        for (Subject subject : subjects) {
+            if (subject.getCode() != null) {
+                subjectIdByCode.put(normalize(subject.getCode()), subject.getId());
+            }
+        }
+        return new PeriodSubjectCodes(Map.copyOf(subjectIdByCode));
+    }
+
+    /**
+     * Whether another subject of the period already uses the code
+     *
+     * @param excludeSubjectId Subject being updated, ignored; may be null
+     */
+    public boolean isTaken(String code, String excludeSubjectId) {
+        String owner = subjectIdByCode.get(normalize(code));
+        return owner != null && !owner.equals(excludeSubjectId);
+    }
+
+    public int size() {
+        return subjectIdByCode.size();
+    }
+
+    public static String normalize(String code) {
+        return code.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,106 @@
+package com.uniflow.academic.subject.domain;
+
+import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
+
+import java.text.Normalizer;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical form of a schedule entry: a weekday and a [start, end) time range.
+ * Entries are free text such as "Lunes 8:00-9:50" or "Mon 08:00 - 09:50";
+ * Spanish and English day names (full or three letters) are accepted.
+ */
+public record ScheduleSlot(DayOfWeek day, LocalTime start, LocalTime end) {
+
+    private static final Pattern ENTRY = Pattern.compile(
+            "^\\s*(\\p{L}+)\\.?\\s*,?\\s*(\\d{1,2})(?:[:.h](\\d{2}))?\\s*(?:-|–|—|a|to)\\s*(\\d{1,2})(?:[:.h](\\d{2}))?\\s*$");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+
+    private static final Map<String, DayOfWeek> DAYS = Map.ofEntries(
+            Map.entry("lunes", DayOfWeek.MONDAY), Map.entry("lun", DayOfWeek.MONDAY),
+            Map.entry("monday", DayOfWeek.MONDAY), Map.entry("mon", DayOfWeek.MONDAY),
+            Map.entry("martes", DayOfWeek.TUESDAY), Map.entry("mar", DayOfWeek.TUESDAY),
+            Map.entry("tuesday", DayOfWeek.TUESDAY), Map.entry("tue", DayOfWeek.TUESDAY),
+            Map.entry("miercoles", DayOfWeek.WEDNESDAY), Map.entry("mie", DayOfWeek.WEDNESDAY),
+            Map.entry("wednesday", DayOfWeek.WEDNESDAY), Map.entry("wed", DayOfWeek.WEDNESDAY),
+            Map.entry("jueves", DayOfWeek.THURSDAY), Map.entry("jue", DayOfWeek.THURSDAY),
+            Map.entry("thursday", DayOfWeek.THURSDAY), Map.entry("thu", DayOfWeek.THURSDAY),
+            Map.entry("viernes", DayOfWeek.FRIDAY), Map.entry("vie", DayOfWeek.FRIDAY),
+            Map.entry("friday", DayOfWeek.FRIDAY), Map.entry("fri", DayOfWeek.FRIDAY),
+            Map.entry("sabado", DayOfWeek.SATURDAY), Map.entry("sab", DayOfWeek.SATURDAY),
+            Map.entry("saturday", DayOfWeek.SATURDAY), Map.entry("sat", DayOfWeek.SATURDAY),
+            Map.entry("domingo", DayOfWeek.SUNDAY), Map.entry("dom", DayOfWeek.SUNDAY),
+            Map.entry("sunday", DayOfWeek.SUNDAY), Map.entry("sun", DayOfWeek.SUNDAY)
+    );
+
+    public ScheduleSlot {
+        if (!end.equals(LocalTime.MIDNIGHT) && !end.isAfter(start)) {
+            throw new InvalidSubjectException("Schedule end time must be after start time");
+        }
+    }
+
+    /**
+     * Parse a schedule entry
+     *
+     * @throws InvalidSubjectException if the entry is not a day followed by a time range
+     */
+    public static ScheduleSlot parse(String entry) {
+        return tryParse(entry).orElseThrow(() ->
+                new InvalidSubjectException("Invalid schedule entry '" + entry + "', expected e.g. 'Lunes 8:00-9:50'"));
+    }
+
+    /**
+     * Lenient parse for entries stored before schedules were validated
+     */
+    public static Optional<ScheduleSlot> tryParse(String entry) {
+        if (entry == null) {
+            return Optional.empty();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(entry, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        Matcher matcher = ENTRY.matcher(normalized);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        DayOfWeek day = DAYS.get(matcher.group(1));
+        LocalTime start = time(matcher.group(2), matcher.group(3));
+        LocalTime end = time(matcher.group(4), matcher.group(5));
+        if (day == null || start == null || end == null) {
+            return Optional.empty();
+        }
+        if (!end.equals(LocalTime.MIDNIGHT) && !end.isAfter(start)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ScheduleSlot(day, start, end));
+    }
+
+    /**
+     * Minutes since midnight; an end of 24:00 is stored as midnight
+     */
+    public int startMinute() {
+        return start.getHour() * 60 + start.getMinute();
+    }
+
+    public int endMinute() {
+        return end.equals(LocalTime.MIDNIGHT) ? 24 * 60 : end.getHour() * 60 + end.getMinute();
+    }
+
+    private static LocalTime time(String hours, String minutes) {
+        int h = Integer.parseInt(hours);
+        int m = minutes != null ? Integer.parseInt(minutes) : 0;
+        if (h == 24 && m == 0) {
+            return LocalTime.MIDNIGHT;
+        }
+        if (h > 23 || m > 59) {
+            return null;
+        }
+        return LocalTime.of(h, m);
+    }
+}
@@ -1,5 +1,6 @@
 package com.uniflow.academic.subject.domain;
 
+import com.uniflow.academic.shared.domain.UuidV7;
 import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,7 +9,6 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
 
 /**
  * Domain aggregate representing an academic subject.
@@ -68,7 +68,7 @@ public class Subject {
             List<String> schedule
     ) {
         Subject subject = Subject.builder()
-                .id(UUID.randomUUID().toString())
+                .id(UuidV7.randomUuid().toString())
                 .name(name)
                 .code(code)
                 .professor(professor)
@@ -0,0 +1,131 @@
+package com.uniflow.academic.subject.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A week as a bitset of 5-minute slots (7 x 288 bits in 32 longs).
+ * Two schedules overlap when their AND is non-zero, a fixed 32-word scan.
+ * Ranges are [start, end): a class ending at 9:50 does not clash with one
+ * starting at 9:50. Times off the 5-minute grid are widened to it.
+ */
+public final class WeeklySchedule {
+
+    public static final int SLOT_MINUTES = 5;
+    static final int SLOTS_PER_DAY = 24 * 60 / SLOT_MINUTES;
+    private static final int WORDS = (7 * SLOTS_PER_DAY + 63) / 64;
+
+    public static final WeeklySchedule EMPTY = new WeeklySchedule(new long[WORDS]);
+
+    private final long[] words;
+
+    private WeeklySchedule(long[] words) {
+        this.words = words;
+    }
+
+    public static WeeklySchedule of(Collection<ScheduleSlot> slots) {
+        long[] words = new long[WORDS];
+        for (ScheduleSlot slot : slots) {
+            int dayOffset = (slot.day().getValue() - 1) * SLOTS_PER_DAY;
+            int from = dayOffset + slot.startMinute() / SLOT_MINUTES;
+            int to = dayOffset + (slot.endMinute() + SLOT_MINUTES - 1) / SLOT_MINUTES;
+            for (int bit = from; bit < to; bit++) {
+                words[bit >>> 6] |= 1L << bit;
+            }
+        }
+        return new WeeklySchedule(words);
+    }
+
+    /**
+     * Compile stored schedule entries, skipping the ones that do not parse
+     */
+    public static WeeklySchedule compileLenient(Collection<String> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return EMPTY;
+        }
+        List<ScheduleSlot> slots = new ArrayList<>(entries.size());
+        entries.forEach(entry -> ScheduleSlot.tryParse(entry).ifPresent(slots::add));
+        return of(slots);
+    }
+
+    /**
+     * Compile schedule entries from a write request
+     *
+     * @throws com.uniflow.academic.subject.domain.exception.InvalidSubjectException on an unparseable entry
+     */
+    public static WeeklySchedule compile(Collection<String> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return EMPTY;
+        }
+        return of(entries.stream().map(ScheduleSlot::parse).toList());
+    }
+
+    public boolean intersects(WeeklySchedule other) {
+        for (int i = 0; i < WORDS; i++) {
+            if ((words[i] & other.words[i]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public WeeklySchedule and(WeeklySchedule other) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new WeeklySchedule(result);
+    }
+
+    public WeeklySchedule or(WeeklySchedule other) {
+        long[] result = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] | other.words[i];
+        }
+        return new WeeklySchedule(result);
+    }
+
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Contiguous occupied ranges, in week order
+     */
+    public List<ScheduleSlot> slots() {
+        List<ScheduleSlot> slots = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            int dayOffset = (day.getValue() - 1) * SLOTS_PER_DAY;
+            int slot = 0;
+            while (slot < SLOTS_PER_DAY) {
+                if (!isSet(dayOffset + slot)) {
+                    slot++;
+                    continue;
+                }
+                int start = slot;
+                while (slot < SLOTS_PER_DAY && isSet(dayOffset + slot)) {
+                    slot++;
+                }
+                slots.add(new ScheduleSlot(day, toTime(start), toTime(slot)));
+            }
+        }
+        return slots;
+    }
+
+    private boolean isSet(int bit) {
+        return (words[bit >>> 6] & (1L << bit)) != 0;
+    }
+
+    private static LocalTime toTime(int slot) {
+        int minutes = slot * SLOT_MINUTES;
+        return minutes >= 24 * 60 ? LocalTime.MIDNIGHT : LocalTime.of(minutes / 60, minutes % 60);
+    }
+}
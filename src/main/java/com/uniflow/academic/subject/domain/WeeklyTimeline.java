@@ -0,0 +1,191 @@
+package com.uniflow.academic.subject.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Classes of a period laid out per weekday, sorted by start minute, for
+ * "what is next" and "when am I free" lookups by binary search.
+ * Busy time is also kept merged per day, so free ranges are the gaps.
+ */
+public final class WeeklyTimeline {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final Day[] days = new Day[7];
+
+    private WeeklyTimeline(List<PeriodSchedule.Entry> entries) {
+        List<List<ClassBlock>> blocks = new ArrayList<>(7);
+        for (int i = 0; i < 7; i++) {
+            blocks.add(new ArrayList<>());
+        }
+        for (PeriodSchedule.Entry entry : entries) {
+            for (ScheduleSlot slot : entry.schedule().slots()) {
+                blocks.get(slot.day().getValue() - 1)
+                        .add(new ClassBlock(entry.subject(), slot.startMinute(), slot.endMinute()));
+            }
+        }
+        for (int i = 0; i < 7; i++) {
+            days[i] = new Day(blocks.get(i));
+        }
+    }
+
+    public static WeeklyTimeline of(PeriodSchedule schedule) {
+        return new WeeklyTimeline(schedule.entries());
+    }
+
+    /**
+     * The class in progress at the given time, if any
+     */
+    public Optional<ClassOccurrence> current(LocalDateTime at) {
+        Day day = days[at.getDayOfWeek().getValue() - 1];
+        int minute = minuteOf(at.toLocalTime());
+        // Classes starting at or before now; the latest one still running wins
+        for (int i = day.lastStartingAtOrBefore(minute); i >= 0; i--) {
+            ClassBlock block = day.blocks[i];
+            if (block.end() > minute) {
+                return Optional.of(block.on(at.toLocalDate()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The first class starting after the given time, looking up to a week ahead
+     */
+    public Optional<ClassOccurrence> next(LocalDateTime at) {
+        LocalDate date = at.toLocalDate();
+        int minute = minuteOf(at.toLocalTime());
+        for (int offset = 0; offset <= 7; offset++) {
+            LocalDate candidate = date.plusDays(offset);
+            Day day = days[candidate.getDayOfWeek().getValue() - 1];
+            int index = offset == 0 ? day.firstStartingAfter(minute) : 0;
+            if (offset == 7) {
+                // Same weekday next week: only classes that already started today
+                if (day.blocks.length > 0 && day.blocks[0].start() <= minute) {
+                    return Optional.of(day.blocks[0].on(candidate));
+                }
+                break;
+            }
+            if (index < day.blocks.length) {
+                return Optional.of(day.blocks[index].on(candidate));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Free ranges of a weekday within [from, to) lasting at least minMinutes
+     */
+    public List<ScheduleSlot> freeSlots(DayOfWeek dayOfWeek, LocalTime from, LocalTime to, int minMinutes) {
+        Day day = days[dayOfWeek.getValue() - 1];
+        int windowStart = minuteOf(from);
+        int windowEnd = to.equals(LocalTime.MIDNIGHT) ? MINUTES_PER_DAY : minuteOf(to);
+        List<ScheduleSlot> free = new ArrayList<>();
+
+        int cursor = windowStart;
+        for (int i = day.firstBusyEndingAfter(windowStart); i < day.busyStarts.length; i++) {
+            if (day.busyStarts[i] >= windowEnd) {
+                break;
+            }
+            addIfLongEnough(free, dayOfWeek, cursor, day.busyStarts[i], minMinutes);
+            cursor = Math.max(cursor, day.busyEnds[i]);
+        }
+        addIfLongEnough(free, dayOfWeek, cursor, windowEnd, minMinutes);
+        return free;
+    }
+
+    private static void addIfLongEnough(List<ScheduleSlot> free, DayOfWeek day, int start, int end, int minMinutes) {
+        if (end - start >= Math.max(1, minMinutes)) {
+            free.add(new ScheduleSlot(day, toTime(start), toTime(end)));
+        }
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+
+    private static LocalTime toTime(int minute) {
+        return minute >= MINUTES_PER_DAY ? LocalTime.MIDNIGHT : LocalTime.of(minute / 60, minute % 60);
+    }
+
+    public record ClassOccurrence(Subject subject, LocalDateTime start, LocalDateTime end) {
+    }
+
+    private record ClassBlock(Subject subject, int start, int end) {
+
+        ClassOccurrence on(LocalDate date) {
+            LocalDateTime startAt = date.atStartOfDay().plusMinutes(start);
+            return new ClassOccurrence(subject, startAt, date.atStartOfDay().plusMinutes(end));
+        }
+    }
+
+    private static final class Day {
+
+        private final ClassBlock[] blocks;
+        private final int[] starts;
+        private final int[] busyStarts;
+        private final int[] busyEnds;
+
+        private Day(List<ClassBlock> classes) {
+            this.blocks = classes.stream()
+                    .sorted(Comparator.comparingInt(ClassBlock::start).thenComparingInt(ClassBlock::end))
+                    .toArray(ClassBlock[]::new);
+            this.starts = Arrays.stream(blocks).mapToInt(ClassBlock::start).toArray();
+
+            List<int[]> merged = new ArrayList<>();
+            for (ClassBlock block : blocks) {
+                int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+                if (last != null && block.start() <= last[1]) {
+                    last[1] = Math.max(last[1], block.end());
+                } else {
+                    merged.add(new int[]{block.start(), block.end()});
+                }
+            }
+            this.busyStarts = merged.stream().mapToInt(range -> range[0]).toArray();
+            this.busyEnds = merged.stream().mapToInt(range -> range[1]).toArray();
+        }
+
+        /**
+         * Index of the last class starting at or before minute, or -1
+         */
+        int lastStartingAtOrBefore(int minute) {
+            return firstIndexAbove(starts, minute) - 1;
+        }
+
+        /**
+         * Index of the first class starting strictly after minute
+         */
+        int firstStartingAfter(int minute) {
+            return firstIndexAbove(starts, minute);
+        }
+
+        /**
+         * Index of the first merged busy range ending after minute
+         */
+        int firstBusyEndingAfter(int minute) {
+            return firstIndexAbove(busyEnds, minute);
+        }
+
+        private static int firstIndexAbove(int[] sorted, int value) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] <= value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
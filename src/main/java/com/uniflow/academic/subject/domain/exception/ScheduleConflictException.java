@@ -0,0 +1,7 @@
+package com.uniflow.academic.subject.domain.exception;
+
+public class ScheduleConflictException extends RuntimeException {
+    public ScheduleConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,49 @@
+package com.uniflow.academic.subject.infrastructure.cache;
+
+import com.uniflow.academic.shared.infrastructure.cache.TransactionAwareCache;
+import com.uniflow.academic.subject.application.ports.out.PeriodScheduleCache;
+import com.uniflow.academic.subject.domain.PeriodSchedule;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of compiled period schedules, keyed by (student, period).
+ * Bounded by size, idle time and a ttl safety net; subject writes evict explicitly.
+ * Metrics: cache.gets{cache=subjects.schedule,result=hit|miss}, cache.size, cache.evictions
+ */
+@Slf4j
+@Component
+public class CaffeinePeriodScheduleCache implements PeriodScheduleCache {
+
+    static final String CACHE_NAME = "subjects.schedule";
+
+    private final TransactionAwareCache<Key, PeriodSchedule> cache;
+
+    public CaffeinePeriodScheduleCache(
+            @Value("${app.cache.period-schedule.max-size:10000}") long maxSize,
+            @Value("${app.cache.period-schedule.ttl:15m}") Duration ttl,
+            @Value("${app.cache.period-schedule.idle-ttl:10m}") Duration idleTtl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = new TransactionAwareCache<>(CACHE_NAME, maxSize, ttl, idleTtl, meterRegistry);
+    }
+
+    @Override
+    public PeriodSchedule get(String studentId, String periodId, Supplier<PeriodSchedule> loader) {
+        return cache.get(new Key(studentId, periodId), key -> loader.get());
+    }
+
+    @Override
+    public void evict(String studentId, String periodId) {
+        cache.evict(new Key(studentId, periodId));
+        log.debug("Period schedule cache evicted for student {} and period {}", studentId, periodId);
+    }
+
+    private record Key(String studentId, String periodId) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.uniflow.academic.subject.infrastructure.cache;
+
+import com.uniflow.academic.shared.infrastructure.cache.TransactionAwareCache;
+import com.uniflow.academic.subject.application.ports.out.PeriodSubjectCodesCache;
+import com.uniflow.academic.subject.domain.PeriodSubjectCodes;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of subject codes per (student, period) for validate-code.
+ * Bounded by size, idle time and a ttl safety net; subject writes evict explicitly.
+ * Metrics: cache.gets{cache=subjects.codes,result=hit|miss}, cache.size, cache.evictions
+ */
+@Slf4j
+@Component
+public class CaffeinePeriodSubjectCodesCache implements PeriodSubjectCodesCache {
+
+    static final String CACHE_NAME = "subjects.codes";
+
+    private final TransactionAwareCache<Key, PeriodSubjectCodes> cache;
+
+    public CaffeinePeriodSubjectCodesCache(
+            @Value("${app.cache.subject-codes.max-size:10000}") long maxSize,
+            @Value("${app.cache.subject-codes.ttl:15m}") Duration ttl,
+            @Value("${app.cache.subject-codes.idle-ttl:10m}") Duration idleTtl,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = new TransactionAwareCache<>(CACHE_NAME, maxSize, ttl, idleTtl, meterRegistry);
+    }
+
+    @Override
+    public PeriodSubjectCodes get(String studentId, String periodId, Supplier<PeriodSubjectCodes> loader) {
+        return cache.get(new Key(studentId, periodId), key -> loader.get());
+    }
+
+    @Override
+    public void evict(String studentId, String periodId) {
+        cache.evict(new Key(studentId, periodId));
+        log.debug("Subject codes cache evicted for student {} and period {}", studentId, periodId);
+    }
+
+    private record Key(String studentId, String periodId) {
+    }
+}
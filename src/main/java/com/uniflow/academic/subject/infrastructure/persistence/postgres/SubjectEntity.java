@@ -3,11 +3,14 @@ package com.uniflow.academic.subject.infrastructure.persistence.postgres;
 import com.uniflow.academic.subject.infrastructure.persistence.postgres.converter.ListToJsonConverter;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnTransformer;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Entity
 @Table(
@@ -31,11 +34,11 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @ToString(exclude = {})
-public class SubjectEntity {
+public class SubjectEntity implements Persistable<UUID> {
 
     @Id
-    @Column(name = "id", length = 36, nullable = false)
-    private String id;
+    @Column(name = "id", nullable = false)
+    private UUID id;
 
     @Column(name = "name", nullable = false)
     private String name;
@@ -53,7 +56,7 @@ public class SubjectEntity {
     private String color;
 
     @Column(name = "period_id", nullable = false)
-    private String periodId;
+    private UUID periodId;
 
     @Column(name = "student_id", nullable = false)
     private String studentId;
@@ -62,7 +65,8 @@ public class SubjectEntity {
     private String description;
 
     @Convert(converter = ListToJsonConverter.class)
-    @Column(name = "schedule", columnDefinition = "TEXT")
+    @ColumnTransformer(write = "?::jsonb")
+    @Column(name = "schedule", columnDefinition = "jsonb", nullable = false)
     private List<String> schedule;
 
     @CreationTimestamp
@@ -72,4 +76,30 @@ public class SubjectEntity {
     @UpdateTimestamp
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
+
+    /**
+     * Ids come from Subject.create, so the id alone cannot tell an insert from an update;
+     * the adapter marks inserts so save() persists without a merge SELECT
+     */
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = false;
+
+    public SubjectEntity markNew() {
+        this.newEntity = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
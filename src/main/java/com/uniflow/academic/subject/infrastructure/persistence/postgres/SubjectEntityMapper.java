@@ -1,5 +1,6 @@
 package com.uniflow.academic.subject.infrastructure.persistence.postgres;
 
+import com.uniflow.academic.shared.infrastructure.persistence.UuidIds;
 import com.uniflow.academic.subject.domain.Subject;
 import org.springframework.stereotype.Component;
 
@@ -8,13 +9,13 @@ public class SubjectEntityMapper {
 
     public SubjectEntity toEntity(Subject subject) {
         return SubjectEntity.builder()
-                .id(subject.getId())
+                .id(UuidIds.of(subject.getId()))
                 .name(subject.getName())
                 .code(subject.getCode())
                 .professor(subject.getProfessor())
                 .credits(subject.getCredits())
                 .color(subject.getColor())
-                .periodId(subject.getPeriodId())
+                .periodId(UuidIds.of(subject.getPeriodId()))
                 .studentId(subject.getStudentId())
                 .description(subject.getDescription())
                 .schedule(subject.getSchedule())
@@ -25,13 +26,13 @@ public class SubjectEntityMapper {
 
     public Subject toDomain(SubjectEntity entity) {
         return Subject.builder()
-                .id(entity.getId())
+                .id(UuidIds.toString(entity.getId()))
                 .name(entity.getName())
                 .code(entity.getCode())
                 .professor(entity.getProfessor())
                 .credits(entity.getCredits())
                 .color(entity.getColor())
-                .periodId(entity.getPeriodId())
+                .periodId(UuidIds.toString(entity.getPeriodId()))
                 .studentId(entity.getStudentId())
                 .description(entity.getDescription())
                 .schedule(entity.getSchedule())
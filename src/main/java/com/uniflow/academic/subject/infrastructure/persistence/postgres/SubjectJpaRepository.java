@@ -1,63 +1,146 @@
 package com.uniflow.academic.subject.infrastructure.persistence.postgres;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
-public interface SubjectJpaRepository extends JpaRepository<SubjectEntity, String> {
+public interface SubjectJpaRepository extends JpaRepository<SubjectEntity, UUID> {
 
-    Optional<SubjectEntity> findByIdAndStudentId(String id, String studentId);
+    Optional<SubjectEntity> findByIdAndStudentId(UUID id, String studentId);
 
+    /**
+     * Same lookup with SELECT ... FOR UPDATE: an update reads the state it
+     * replaces under the row lock, so two concurrent updates of one subject
+     * cannot both subtract the same old state from the statistics counters
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<SubjectEntity> findForUpdateByIdAndStudentId(UUID id, String studentId);
+
+    /**
+     * First keyset page. professor is cast so a null binds as text;
+     * untyped it reaches Postgres as bytea and LOWER() fails.
+     */
     @Query("""
             SELECT s FROM SubjectEntity s
             WHERE s.studentId = :studentId
             AND (:periodId IS NULL OR s.periodId = :periodId)
-            AND (:professor IS NULL OR LOWER(s.professor) LIKE LOWER(CONCAT('%', :professor, '%')))
+            AND (:professor IS NULL OR LOWER(s.professor) LIKE LOWER(CONCAT('%', CAST(:professor AS String), '%')))
             AND (:credits IS NULL OR s.credits = :credits)
-            AND (:search IS NULL OR LOWER(s.name) LIKE LOWER(CONCAT('%', :search, '%'))
-                 OR LOWER(s.code) LIKE LOWER(CONCAT('%', :search, '%')))
-            ORDER BY s.createdAt DESC
+            ORDER BY s.createdAt DESC, s.id DESC
             """)
-    List<SubjectEntity> searchSubjects(
+    List<SubjectEntity> findFirstKeysetPage(
             @Param("studentId") String studentId,
-            @Param("periodId") String periodId,
+            @Param("periodId") UUID periodId,
             @Param("professor") String professor,
             @Param("credits") Integer credits,
-            @Param("search") String search
-        SELECT s FROM SubjectEntity s
-        WHERE s.studentId = :studentId
-        AND (:periodId IS NULL OR s.periodId = :periodId)
-        AND (:professorPattern IS NULL OR LOWER(s.professor) LIKE :professorPattern)
-        AND (:credits IS NULL OR s.credits = :credits)
-        AND (:searchPattern IS NULL OR LOWER(s.name) LIKE :searchPattern
-             OR LOWER(s.code) LIKE :searchPattern)
-        ORDER BY s.createdAt DESC
-    """)
-    List<SubjectEntity> searchSubjects(
+            Pageable pageable
+    );
+
+    /**
+     * Next keyset page: subjects strictly after (createdAt, id) in
+     * (created_at DESC, id DESC) order, seeking on the V7 indexes.
+     */
+    @Query("""
+            SELECT s FROM SubjectEntity s
+            WHERE s.studentId = :studentId
+            AND (:periodId IS NULL OR s.periodId = :periodId)
+            AND (:professor IS NULL OR LOWER(s.professor) LIKE LOWER(CONCAT('%', CAST(:professor AS String), '%')))
+            AND (:credits IS NULL OR s.credits = :credits)
+            AND s.createdAt <= :afterCreatedAt
+            AND (s.createdAt < :afterCreatedAt OR s.id < :afterId)
+            ORDER BY s.createdAt DESC, s.id DESC
+            """)
+    List<SubjectEntity> findKeysetPageAfter(
             @Param("studentId") String studentId,
-            @Param("periodId") String periodId,
-            @Param("professorPattern") String professorPattern,
+            @Param("periodId") UUID periodId,
+            @Param("professor") String professor,
             @Param("credits") Integer credits,
-            @Param("searchPattern") String searchPattern
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("afterId") UUID afterId,
+            Pageable pageable
     );
 
-    List<SubjectEntity> findByStudentIdAndPeriodId(String studentId, String periodId);
+    /**
+     * Subject statistics in one pass: the totals row plus one row per
+     * professor, credits value and period, told apart by groupingSet.
+     */
+    @Query(value = """
+            SELECT GROUPING(s.professor, s.credits, s.period_id) AS "groupingSet",
+                   s.professor AS "professor",
+                   s.credits AS "credits",
+                   CAST(s.period_id AS text) AS "periodId",
+                   COUNT(*) AS "total",
+                   COALESCE(SUM(s.credits), 0) AS "creditSum"
+            FROM academic.subjects s
+            WHERE s.student_id = :studentId
+            GROUP BY GROUPING SETS ((), (s.professor), (s.credits), (s.period_id))
+            """, nativeQuery = true)
+    List<SubjectStatisticsRow> aggregateStatistics(@Param("studentId") String studentId);
 
-    boolean existsByStudentIdAndPeriodIdAndCodeIgnoreCase(String studentId, String periodId, String code);
+    List<SubjectEntity> findByStudentIdAndPeriodId(String studentId, UUID periodId);
 
-    boolean existsByStudentIdAndPeriodIdAndCodeIgnoreCaseAndIdNot(
-            String studentId,
-            String periodId,
-            String code,
-            String id
+    /**
+     * Case-insensitive code lookup written as LOWER(code) = LOWER(:code) so it
+     * seeks uk_subject_period_code; derived IgnoreCase queries compare UPPER()
+     * and cannot use that index.
+     */
+    @Query(value = """
+            SELECT EXISTS (
+                SELECT 1 FROM academic.subjects s
+                WHERE s.student_id = :studentId
+                AND s.period_id = :periodId
+                AND LOWER(s.code) = LOWER(:code)
+            )
+            """, nativeQuery = true)
+    boolean existsByStudentIdAndPeriodIdAndCodeIgnoreCase(
+            @Param("studentId") String studentId,
+            @Param("periodId") UUID periodId,
+            @Param("code") String code
     );
 
-    long countByPeriodId(String periodId);
+    @Query(value = """
+            SELECT EXISTS (
+                SELECT 1 FROM academic.subjects s
+                WHERE s.student_id = :studentId
+                AND s.period_id = :periodId
+                AND LOWER(s.code) = LOWER(:code)
+                AND s.id <> :id
+            )
+            """, nativeQuery = true)
+    boolean existsByStudentIdAndPeriodIdAndCodeIgnoreCaseAndIdNot(
+            @Param("studentId") String studentId,
+            @Param("periodId") UUID periodId,
+            @Param("code") String code,
+            @Param("id") UUID id
+    );
 
-    long countByPeriodIdAndStudentId(String periodId, String studentId);
+    /**
+     * Codes of the period among the given ones, in one statement for any number
+     * of codes; the array parameter keeps a single prepared statement shape
+     *
+     * @param codes Lower-cased codes
+     * @return The matching codes, lower-cased
+     */
+    @Query(value = """
+            SELECT LOWER(s.code)
+            FROM academic.subjects s
+            WHERE s.student_id = :studentId
+            AND s.period_id = :periodId
+            AND LOWER(s.code) = ANY(CAST(:codes AS text[]))
+            """, nativeQuery = true)
+    List<String> findExistingCodes(
+            @Param("studentId") String studentId,
+            @Param("periodId") UUID periodId,
+            @Param("codes") String[] codes
+    );
 
-    List<SubjectEntity> findByStudentId(String studentId);
+    long countByPeriodIdAndStudentId(UUID periodId, String studentId);
 }
@@ -1,16 +1,35 @@
 package com.uniflow.academic.subject.infrastructure.persistence.postgres;
 
+import com.uniflow.academic.shared.infrastructure.persistence.UuidIds;
 import com.uniflow.academic.subject.application.ports.out.SubjectRepository;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectCursor;
 import com.uniflow.academic.subject.application.ports.out.dto.SubjectFilter;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPage;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPageRequest;
 import com.uniflow.academic.subject.application.ports.out.dto.SubjectStatisticsResponse;
+import com.uniflow.academic.subject.domain.PeriodSubjectCodes;
 import com.uniflow.academic.subject.domain.Subject;
+import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
+import com.uniflow.academic.subject.infrastructure.persistence.postgres.converter.ListToJsonConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -18,17 +37,96 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class SubjectPostgresAdapter implements SubjectRepository {
 
+    // GROUPING(professor, credits, period_id) of each grouping set
+    private static final int TOTALS_SET = 0b111;
+    private static final int PROFESSOR_SET = 0b011;
+    private static final int CREDITS_SET = 0b101;
+    private static final int PERIOD_SET = 0b110;
+    private static final String UNKNOWN_PROFESSOR = "Unknown";
+
+    private static final ListToJsonConverter SCHEDULE_CONVERTER = new ListToJsonConverter();
+
+    // The EXISTS guard stands in for the ownership check; ON CONFLICT targets uk_subject_period_code
+    private static final String INSERT_IF_ABSENT = """
+            INSERT INTO academic.subjects
+                (id, name, code, professor, credits, color, period_id, student_id,
+                 description, schedule, created_at, updated_at)
+            SELECT :id, :name, :code, :professor, :credits, :color, :periodId, :studentId,
+                   :description, CAST(:schedule AS jsonb), :createdAt, :updatedAt
+            WHERE EXISTS (
+                SELECT 1 FROM academic.periods p
+                WHERE p.id = :periodId
+                AND p.student_id = :studentId
+            )
+            ON CONFLICT (student_id, period_id, LOWER(code)) DO NOTHING
+            RETURNING id
+            """;
+
+    private static final String DELETE_OWNED = """
+            DELETE FROM academic.subjects s
+            WHERE s.id = :id
+            AND s.student_id = :studentId
+            RETURNING s.*
+            """;
+
+    private static final RowMapper<SubjectEntity> DELETED_ROW = (rs, rowNum) -> SubjectEntity.builder()
+            .id(rs.getObject("id", UUID.class))
+            .name(rs.getString("name"))
+            .code(rs.getString("code"))
+            .professor(rs.getString("professor"))
+            .credits(rs.getObject("credits", Integer.class))
+            .color(rs.getString("color"))
+            .periodId(rs.getObject("period_id", UUID.class))
+            .studentId(rs.getString("student_id"))
+            .description(rs.getString("description"))
+            .schedule(SCHEDULE_CONVERTER.convertToEntityAttribute(rs.getString("schedule")))
+            .createdAt(rs.getObject("created_at", LocalDateTime.class))
+            .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+            .build();
+
     private final SubjectJpaRepository jpaRepository;
     private final SubjectEntityMapper mapper;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
     @Override
     public Subject save(Subject subject) {
         log.debug("Saving subject {}", subject.getId());
         SubjectEntity entity = mapper.toEntity(subject);
-        SubjectEntity saved = jpaRepository.save(entity);
+        SubjectEntity saved = jpaRepository.save(entity.markNew());
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public Optional<Subject> insertIfAbsent(Subject subject) {
+        log.debug("Inserting subject {}", subject.getId());
+        Optional<UUID> periodId = UuidIds.parse(subject.getPeriodId());
+        if (periodId.isEmpty()) {
+            return Optional.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Subject toInsert = subject.toBuilder()
+                .createdAt(subject.getCreatedAt() != null ? subject.getCreatedAt() : now)
+                .updatedAt(subject.getUpdatedAt() != null ? subject.getUpdatedAt() : now)
+                .build();
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", UuidIds.of(toInsert.getId()))
+                .addValue("name", toInsert.getName())
+                .addValue("code", toInsert.getCode())
+                .addValue("professor", toInsert.getProfessor(), Types.VARCHAR)
+                .addValue("credits", toInsert.getCredits(), Types.INTEGER)
+                .addValue("color", toInsert.getColor(), Types.VARCHAR)
+                .addValue("periodId", periodId.get())
+                .addValue("studentId", toInsert.getStudentId())
+                .addValue("description", toInsert.getDescription(), Types.VARCHAR)
+                .addValue("schedule", SCHEDULE_CONVERTER.convertToDatabaseColumn(toInsert.getSchedule()))
+                .addValue("createdAt", toInsert.getCreatedAt())
+                .addValue("updatedAt", toInsert.getUpdatedAt());
+
+        List<String> inserted = jdbcTemplate.query(INSERT_IF_ABSENT, params, (rs, rowNum) -> rs.getString(1));
+        return inserted.isEmpty() ? Optional.empty() : Optional.of(toInsert);
+    }
+
     @Override
     public Subject update(Subject subject) {
         log.debug("Updating subject {}", subject.getId());
@@ -39,53 +137,129 @@ public class SubjectPostgresAdapter implements SubjectRepository {
 
     @Override
     public Optional<Subject> findById(String subjectId, String studentId) {
-        return jpaRepository.findByIdAndStudentId(subjectId, studentId)
+        return UuidIds.parse(subjectId)
+                .flatMap(id -> jpaRepository.findByIdAndStudentId(id, studentId))
                 .map(mapper::toDomain);
     }
 
     @Override
-    public List<Subject> findAll(String studentId, SubjectFilter filter) {
-        String periodId = filter != null ? filter.getPeriodId() : null;
-        String professor = filter != null ? filter.getProfessor() : null;
-        Integer credits = filter != null ? filter.getCredits() : null;
-        String search = filter != null ? filter.getSearch() : null;
-
-        List<SubjectEntity> entities = jpaRepository.searchSubjects(
-                studentId,
-                normalize(periodId),
-                normalize(professor),
-                credits,
-                normalize(search)
-        );
+    public Optional<Subject> findByIdForUpdate(String subjectId, String studentId) {
+        return UuidIds.parse(subjectId)
+                .flatMap(id -> jpaRepository.findForUpdateByIdAndStudentId(id, studentId))
+                .map(mapper::toDomain);
+    }
 
-        return entities.stream()
+    @Override
+    public List<Subject> findAll(String studentId) {
+        return jpaRepository.findFirstKeysetPage(studentId, null, null, null, Pageable.unpaged()).stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public SubjectPage findPage(String studentId, SubjectFilter filter, SubjectPageRequest page) {
+        page.validate();
+        String periodId = filter != null ? normalize(filter.getPeriodId()) : null;
+        String professor = filter != null ? normalize(filter.getProfessor()) : null;
+        Integer credits = filter != null ? filter.getCredits() : null;
+        Pageable window = PageRequest.ofSize(page.getLimit() + 1);
+        Optional<UUID> periodUuid = UuidIds.parse(periodId);
+        if (periodId != null && periodUuid.isEmpty()) {
+            return SubjectPage.builder()
+                    .data(List.of())
+                    .limit(page.getLimit())
+                    .hasNext(false)
+                    .build();
+        }
+
+        List<SubjectEntity> rows;
+        if (page.hasCursor()) {
+            SubjectCursor cursor = SubjectCursor.decode(page.getAfter());
+            rows = jpaRepository.findKeysetPageAfter(
+                    studentId,
+                    periodUuid.orElse(null),
+                    professor,
+                    credits,
+                    cursor.getCreatedAt(),
+                    UuidIds.parse(cursor.getId())
+                            .orElseThrow(() -> new InvalidSubjectException("Invalid pagination cursor")),
+                    window
+            );
+        } else {
+            rows = jpaRepository.findFirstKeysetPage(studentId, periodUuid.orElse(null), professor, credits, window);
+        }
+
+        boolean hasNext = rows.size() > page.getLimit();
+        List<SubjectEntity> pageRows = hasNext ? rows.subList(0, page.getLimit()) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            SubjectEntity last = pageRows.get(pageRows.size() - 1);
+            nextCursor = new SubjectCursor(last.getCreatedAt(), last.getId().toString()).encode();
+        }
+
+        return SubjectPage.builder()
+                .data(pageRows.stream().map(mapper::toDomain).collect(Collectors.toList()))
+                .limit(page.getLimit())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     @Override
     public List<Subject> findByPeriodId(String periodId, String studentId) {
-        return jpaRepository.findByStudentIdAndPeriodId(studentId, periodId).stream()
+        return UuidIds.parse(periodId)
+                .map(id -> jpaRepository.findByStudentIdAndPeriodId(studentId, id))
+                .orElse(List.of())
+                .stream()
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
 
     @Override
     public boolean existsByCode(String code, String periodId, String studentId, String excludeSubjectId) {
-        if (excludeSubjectId != null) {
+        Optional<UUID> period = UuidIds.parse(periodId);
+        if (period.isEmpty()) {
+            return false;
+        }
+        Optional<UUID> excluded = UuidIds.parse(excludeSubjectId);
+        if (excluded.isPresent()) {
             return jpaRepository.existsByStudentIdAndPeriodIdAndCodeIgnoreCaseAndIdNot(
                     studentId,
-                    periodId,
+                    period.get(),
                     code,
-                    excludeSubjectId
+                    excluded.get()
             );
         }
-        return jpaRepository.existsByStudentIdAndPeriodIdAndCodeIgnoreCase(studentId, periodId, code);
+        return jpaRepository.existsByStudentIdAndPeriodIdAndCodeIgnoreCase(studentId, period.get(), code);
+    }
+
+    @Override
+    public Set<String> findExistingCodes(Collection<String> codes, String periodId, String studentId) {
+        Optional<UUID> period = UuidIds.parse(periodId);
+        if (codes.isEmpty() || period.isEmpty()) {
+            return Set.of();
+        }
+        String[] normalized = codes.stream()
+                .map(PeriodSubjectCodes::normalize)
+                .distinct()
+                .toArray(String[]::new);
+        return new HashSet<>(jpaRepository.findExistingCodes(studentId, period.get(), normalized));
     }
 
     @Override
-    public void delete(String subjectId, String studentId) {
-        jpaRepository.deleteById(subjectId);
+    public Optional<Subject> delete(String subjectId, String studentId) {
+        Optional<UUID> id = UuidIds.parse(subjectId);
+        if (id.isEmpty()) {
+            return Optional.empty();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("id", id.get())
+                .addValue("studentId", studentId);
+        return jdbcTemplate.query(DELETE_OWNED, params, DELETED_ROW).stream()
+                .findFirst()
+                .map(mapper::toDomain);
     }
 
     @Override
@@ -96,50 +270,36 @@ public class SubjectPostgresAdapter implements SubjectRepository {
 
     @Override
     public SubjectStatisticsResponse getStatistics(String studentId) {
-        List<SubjectEntity> entities = jpaRepository.findByStudentId(studentId);
-        if (entities.isEmpty()) {
-            return SubjectStatisticsResponse.builder()
-                    .total(0)
-                    .totalCredits(0)
-                    .averageCredits(0.0)
-                    .byProfessor(Collections.emptyMap())
-                    .byCredits(Collections.emptyMap())
-                    .byPeriod(Collections.emptyMap())
-                    .build();
-        }
+        log.debug("Aggregating subject statistics for student {}", studentId);
 
-        List<Subject> subjects = entities.stream()
-                .map(mapper::toDomain)
-                .toList();
+        int total = 0;
+        int totalCredits = 0;
+        Map<String, Integer> byProfessor = new HashMap<>();
+        Map<Integer, Integer> byCredits = new HashMap<>();
+        Map<String, Integer> byPeriod = new HashMap<>();
 
-        int total = subjects.size();
-        int totalCredits = subjects.stream()
-                .map(Subject::getCredits)
-                .filter(credits -> credits != null)
-                .mapToInt(Integer::intValue)
-                .sum();
+        for (SubjectStatisticsRow row : jpaRepository.aggregateStatistics(studentId)) {
+            int count = row.getTotal().intValue();
+            switch (row.getGroupingSet()) {
+                case TOTALS_SET -> {
+                    total = count;
+                    totalCredits = row.getCreditSum().intValue();
+                }
+                // merge: the null professor group shares its label with a professor named "Unknown"
+                case PROFESSOR_SET -> byProfessor.merge(
+                        row.getProfessor() != null ? row.getProfessor() : UNKNOWN_PROFESSOR, count, Integer::sum);
+                case CREDITS_SET -> {
+                    if (row.getCredits() != null) {
+                        byCredits.merge(row.getCredits(), count, Integer::sum);
+                    }
+                }
+                case PERIOD_SET -> byPeriod.merge(row.getPeriodId(), count, Integer::sum);
+                default -> log.warn("Unexpected grouping set {} in subject statistics", row.getGroupingSet());
+            }
+        }
 
         double averageCredits = total == 0 ? 0.0 : (double) totalCredits / total;
 
-        var byProfessor = subjects.stream()
-                .collect(Collectors.groupingBy(
-                        subject -> subject.getProfessor() != null ? subject.getProfessor() : "Unknown",
-                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                ));
-
-        var byCredits = subjects.stream()
-                .filter(subject -> subject.getCredits() != null)
-                .collect(Collectors.groupingBy(
-                        Subject::getCredits,
-                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                ));
-
-        var byPeriod = subjects.stream()
-                .collect(Collectors.groupingBy(
-                        Subject::getPeriodId,
-                        Collectors.collectingAndThen(Collectors.counting(), Long::intValue)
-                ));
-
         return SubjectStatisticsResponse.builder()
                 .total(total)
                 .totalCredits(totalCredits)
@@ -0,0 +1,51 @@
+package com.uniflow.academic.subject.infrastructure.persistence.postgres;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Read model of academic.student_subject_stats.
+ * Written only through the native upserts of SubjectStatisticsJpaRepository.
+ */
+@Entity
+@Immutable
+@Table(name = "student_subject_stats", schema = "academic")
+@Getter
+@NoArgsConstructor
+public class SubjectStatisticsEntity {
+
+    @Id
+    @Column(name = "student_id", nullable = false)
+    private String studentId;
+
+    @Column(name = "total", nullable = false)
+    private Long total;
+
+    @Column(name = "total_credits", nullable = false)
+    private Long totalCredits;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "by_professor", nullable = false)
+    private Map<String, Long> byProfessor;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "by_credits", nullable = false)
+    private Map<String, Long> byCredits;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "by_period", nullable = false)
+    private Map<String, Long> byPeriod;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,112 @@
+package com.uniflow.academic.subject.infrastructure.persistence.postgres;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SubjectStatisticsJpaRepository extends JpaRepository<SubjectStatisticsEntity, String> {
+
+    /**
+     * Add a delta to the counters of a student, creating the row if needed.
+     * The grouped deltas are JSON objects {"key": +/-count}.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO academic.student_subject_stats AS stats
+                (student_id, total, total_credits, by_professor, by_credits, by_period, updated_at)
+            VALUES (:studentId, :total, :totalCredits,
+                    academic.jsonb_add_counts('{}'::jsonb, CAST(:byProfessor AS jsonb)),
+                    academic.jsonb_add_counts('{}'::jsonb, CAST(:byCredits AS jsonb)),
+                    academic.jsonb_add_counts('{}'::jsonb, CAST(:byPeriod AS jsonb)),
+                    :now)
+            ON CONFLICT (student_id) DO UPDATE SET
+                total = stats.total + EXCLUDED.total,
+                total_credits = stats.total_credits + EXCLUDED.total_credits,
+                by_professor = academic.jsonb_add_counts(stats.by_professor, EXCLUDED.by_professor),
+                by_credits = academic.jsonb_add_counts(stats.by_credits, EXCLUDED.by_credits),
+                by_period = academic.jsonb_add_counts(stats.by_period, EXCLUDED.by_period),
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void applyDelta(
+            @Param("studentId") String studentId,
+            @Param("total") long total,
+            @Param("totalCredits") long totalCredits,
+            @Param("byProfessor") String byProfessor,
+            @Param("byCredits") String byCredits,
+            @Param("byPeriod") String byPeriod,
+            @Param("now") LocalDateTime now
+    );
+
+    /**
+     * Serialize counter writes of one student until the end of the transaction.
+     * Taken before every delta and before a rebuild, so a rebuild never
+     * overwrites a delta committed while it was reading the subjects table.
+     */
+    @Query(value = """
+            SELECT 1 FROM pg_advisory_xact_lock(hashtext('student_subject_stats'), hashtext(:studentId))
+            """, nativeQuery = true)
+    int lockStudent(@Param("studentId") String studentId);
+
+    /**
+     * Students that have subjects or counters, i.e. every row a rebuild may touch
+     */
+    @Query(value = """
+            SELECT student_id FROM academic.subjects
+            UNION
+            SELECT student_id FROM academic.student_subject_stats
+            """, nativeQuery = true)
+    List<String> findStudentIds();
+
+    /**
+     * Overwrite the counters of a student from the subjects table
+     * (same statement as the V9 backfill). Call under lockStudent.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO academic.student_subject_stats
+                (student_id, total, total_credits, by_professor, by_credits, by_period, updated_at)
+            SELECT t.student_id, t.total, t.total_credits,
+                   COALESCE((SELECT jsonb_object_agg(g.professor, g.total) FROM (
+                            SELECT COALESCE(s.professor, 'Unknown') AS professor, COUNT(*) AS total
+                            FROM academic.subjects s WHERE s.student_id = t.student_id GROUP BY 1) g), '{}'::jsonb),
+                   COALESCE((SELECT jsonb_object_agg(g.credits, g.total) FROM (
+                            SELECT s.credits, COUNT(*) AS total
+                            FROM academic.subjects s WHERE s.student_id = t.student_id AND s.credits IS NOT NULL
+                            GROUP BY 1) g), '{}'::jsonb),
+                   COALESCE((SELECT jsonb_object_agg(g.period_id, g.total) FROM (
+                            SELECT s.period_id, COUNT(*) AS total
+                            FROM academic.subjects s WHERE s.student_id = t.student_id GROUP BY 1) g), '{}'::jsonb),
+                   :now
+            FROM (
+                SELECT student_id, COUNT(*) AS total, COALESCE(SUM(credits), 0) AS total_credits
+                FROM academic.subjects
+                WHERE student_id = :studentId
+                GROUP BY student_id
+            ) t
+            ON CONFLICT (student_id) DO UPDATE SET
+                total = EXCLUDED.total,
+                total_credits = EXCLUDED.total_credits,
+                by_professor = EXCLUDED.by_professor,
+                by_credits = EXCLUDED.by_credits,
+                by_period = EXCLUDED.by_period,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int rebuild(@Param("studentId") String studentId, @Param("now") LocalDateTime now);
+
+    /**
+     * Drop the counters of a student that no longer has subjects
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            DELETE FROM academic.student_subject_stats stats
+            WHERE stats.student_id = :studentId
+            AND NOT EXISTS (
+                SELECT 1 FROM academic.subjects s WHERE s.student_id = stats.student_id
+            )
+            """, nativeQuery = true)
+    int deleteOrphans(@Param("studentId") String studentId);
+}
@@ -0,0 +1,156 @@
+package com.uniflow.academic.subject.infrastructure.persistence.postgres;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uniflow.academic.subject.application.ports.out.SubjectStatisticsStore;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectStatisticsResponse;
+import com.uniflow.academic.subject.domain.Subject;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubjectStatisticsPostgresAdapter implements SubjectStatisticsStore {
+
+    private static final String UNKNOWN_PROFESSOR = "Unknown";
+
+    private final SubjectStatisticsJpaRepository jpaRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public Optional<SubjectStatisticsResponse> find(String studentId) {
+        return jpaRepository.findById(studentId).map(stats -> {
+            int total = stats.getTotal().intValue();
+            int totalCredits = stats.getTotalCredits().intValue();
+            return SubjectStatisticsResponse.builder()
+                    .total(total)
+                    .totalCredits(totalCredits)
+                    .averageCredits(total == 0 ? 0.0 : (double) totalCredits / total)
+                    .byProfessor(toCounts(stats.getByProfessor(), Function.identity()))
+                    .byCredits(toCounts(stats.getByCredits(), Integer::valueOf))
+                    .byPeriod(toCounts(stats.getByPeriod(), Function.identity()))
+                    .build();
+        });
+    }
+
+    @Override
+    public void record(Subject before, Subject after) {
+        Subject subject = after != null ? after : before;
+        if (subject == null) {
+            return;
+        }
+
+        long total = 0;
+        long credits = 0;
+        Map<String, Long> byProfessor = new HashMap<>();
+        Map<String, Long> byCredits = new HashMap<>();
+        Map<String, Long> byPeriod = new HashMap<>();
+        if (before != null) {
+            total--;
+            credits -= creditsOf(before);
+            accumulate(before, -1, byProfessor, byCredits, byPeriod);
+        }
+        if (after != null) {
+            total++;
+            credits += creditsOf(after);
+            accumulate(after, 1, byProfessor, byCredits, byPeriod);
+        }
+
+        if (total == 0 && credits == 0 && byProfessor.isEmpty() && byCredits.isEmpty() && byPeriod.isEmpty()) {
+            // Update that touched none of the counted fields
+            return;
+        }
+        jpaRepository.lockStudent(subject.getStudentId());
+        jpaRepository.applyDelta(
+                subject.getStudentId(),
+                total,
+                credits,
+                toJson(byProfessor),
+                toJson(byCredits),
+                toJson(byPeriod),
+                LocalDateTime.now()
+        );
+    }
+
+    /**
+     * One short transaction per student under the same lock as the deltas:
+     * a single INSERT ... SELECT over every student would read the subjects
+     * table once and then overwrite deltas committed in the meantime.
+     */
+    @Override
+    public int rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        int rebuilt = 0;
+        int removed = 0;
+        for (String studentId : jpaRepository.findStudentIds()) {
+            int[] counts = transactionTemplate.execute(status -> {
+                jpaRepository.lockStudent(studentId);
+                return new int[]{jpaRepository.rebuild(studentId, now), jpaRepository.deleteOrphans(studentId)};
+            });
+            rebuilt += counts[0];
+            removed += counts[1];
+        }
+        log.info("Subject statistics rebuilt for {} students, {} stale rows removed", rebuilt, removed);
+        return rebuilt;
+    }
+
+    @Override
+    public void rebuild(String studentId) {
+        log.debug("Rebuilding subject statistics for student {}", studentId);
+        jpaRepository.lockStudent(studentId);
+        jpaRepository.rebuild(studentId, LocalDateTime.now());
+        jpaRepository.deleteOrphans(studentId);
+    }
+
+    private static void accumulate(
+            Subject subject,
+            long sign,
+            Map<String, Long> byProfessor,
+            Map<String, Long> byCredits,
+            Map<String, Long> byPeriod
+    ) {
+        merge(byProfessor, subject.getProfessor() != null ? subject.getProfessor() : UNKNOWN_PROFESSOR, sign);
+        if (subject.getCredits() != null) {
+            merge(byCredits, subject.getCredits().toString(), sign);
+        }
+        merge(byPeriod, subject.getPeriodId(), sign);
+    }
+
+    private static void merge(Map<String, Long> counts, String key, long delta) {
+        counts.merge(key, delta, Long::sum);
+        if (counts.get(key) == 0) {
+            counts.remove(key);
+        }
+    }
+
+    private static long creditsOf(Subject subject) {
+        return subject.getCredits() != null ? subject.getCredits() : 0;
+    }
+
+    private static <K> Map<K, Integer> toCounts(Map<String, Long> counts, Function<String, K> key) {
+        if (counts == null) {
+            return Map.of();
+        }
+        return counts.entrySet().stream()
+                .collect(Collectors.toMap(entry -> key.apply(entry.getKey()), entry -> entry.getValue().intValue()));
+    }
+
+    private String toJson(Map<String, Long> counts) {
+        try {
+            return objectMapper.writeValueAsString(counts);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize statistics delta", e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.uniflow.academic.subject.infrastructure.persistence.postgres;
+
+/**
+ * Projection for one grouping set of the subject statistics aggregate.
+ * Getter names match the (quoted) column aliases of the native query.
+ */
+public interface SubjectStatisticsRow {
+
+    /**
+     * GROUPING(professor, credits, period_id): 7 for the totals row,
+     * 3 for a professor group, 5 for a credits group, 6 for a period group
+     */
+    Integer getGroupingSet();
+
+    String getProfessor();
+
+    Integer getCredits();
+
+    String getPeriodId();
+
+    Long getTotal();
+
+    /**
+     * Sum of non-null credits
+     */
+    Long getCreditSum();
+}
@@ -1,7 +1,10 @@
 package com.uniflow.academic.subject.infrastructure.persistence.postgres.converter;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import lombok.extern.slf4j.Slf4j;
@@ -9,19 +12,28 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.Collections;
 import java.util.List;
 
+/**
+ * Converts the schedule list to the JSON text of a jsonb column.
+ * The reader and writer are built once: they are immutable, thread-safe
+ * and skip the per-call type resolution of ObjectMapper.readValue.
+ */
 @Slf4j
 @Converter
 public class ListToJsonConverter implements AttributeConverter<List<String>, String> {
 
+    private static final String EMPTY_ARRAY = "[]";
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ObjectReader READER = OBJECT_MAPPER.readerForListOf(String.class);
+    private static final ObjectWriter WRITER = OBJECT_MAPPER.writerFor(new TypeReference<List<String>>() {
+    });
 
     @Override
     public String convertToDatabaseColumn(List<String> attribute) {
         if (attribute == null || attribute.isEmpty()) {
-            return "[]";
+            return EMPTY_ARRAY;
         }
         try {
-            return OBJECT_MAPPER.writeValueAsString(attribute);
+            return WRITER.writeValueAsString(attribute);
         } catch (JsonProcessingException e) {
             log.error("Failed to serialize list to JSON", e);
             throw new IllegalStateException("Unable to serialize schedule", e);
@@ -30,15 +42,15 @@ public class ListToJsonConverter implements AttributeConverter<List<String>, Str
 
     @Override
     public List<String> convertToEntityAttribute(String dbData) {
-        if (dbData == null || dbData.isBlank()) {
+        if (dbData == null || dbData.isBlank() || EMPTY_ARRAY.equals(dbData)) {
             return Collections.emptyList();
         }
         try {
-            return OBJECT_MAPPER.readValue(dbData, OBJECT_MAPPER.getTypeFactory()
-                    .constructCollectionType(List.class, String.class));
+            return READER.readValue(dbData);
         } catch (JsonProcessingException e) {
+            // jsonb guarantees valid JSON, so this is a non-array written outside the service
             log.error("Failed to deserialize JSON to list", e);
-            return Collections.emptyList();
+            throw new IllegalStateException("Unable to deserialize schedule", e);
         }
     }
 }
@@ -0,0 +1,61 @@
+package com.uniflow.academic.subject.infrastructure.search;
+
+/**
+ * Bounded Damerau-Levenshtein distance (optimal string alignment),
+ * so a swapped pair of letters counts as a single typo.
+ */
+final class EditDistance {
+
+    private EditDistance() {
+    }
+
+    /**
+     * Typos tolerated for a query token: none for very short input,
+     * where any edit would match almost everything.
+     */
+    static int allowedFor(String queryToken) {
+        int length = queryToken.length();
+        if (length < 4) {
+            return 0;
+        }
+        return length < 8 ? 1 : 2;
+    }
+
+    /**
+     * Whether the distance between a and b is at most max.
+     * Stops as soon as a whole row exceeds max.
+     */
+    static boolean within(String a, String b, int max) {
+        if (Math.abs(a.length() - b.length()) > max) {
+            return false;
+        }
+        int[] previousPrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > max) {
+                return false;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()] <= max;
+    }
+}
@@ -0,0 +1,165 @@
+package com.uniflow.academic.subject.infrastructure.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.uniflow.academic.subject.application.ports.out.SubjectSearchIndex;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectFilter;
+import com.uniflow.academic.subject.domain.Subject;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Per-student subject search index kept in memory.
+ * Built from the database on the first search of a student, then updated
+ * by the subject write services; dropped when the student is idle.
+ * Incremental updates do not extend its life: every index is rebuilt at
+ * most max-age after it was loaded, so a snapshot that missed a concurrent
+ * commit, or writes handled by another instance, are eventually picked up.
+ * Metrics: cache.gets{cache=subjects.search,result=hit|miss}, cache.size, cache.evictions
+ */
+@Slf4j
+@Component
+public class InMemorySubjectSearchIndex implements SubjectSearchIndex {
+
+    static final String CACHE_NAME = "subjects.search";
+
+    private final Cache<String, LoadedIndex> indexes;
+    private final Ticker ticker;
+
+    @Autowired
+    public InMemorySubjectSearchIndex(
+            @Value("${app.search.subjects.max-students:10000}") long maxStudents,
+            @Value("${app.search.subjects.idle-ttl:15m}") Duration idleTtl,
+            @Value("${app.search.subjects.max-age:10m}") Duration maxAge,
+            MeterRegistry meterRegistry
+    ) {
+        this(maxStudents, idleTtl, maxAge, meterRegistry, Ticker.systemTicker());
+    }
+
+    InMemorySubjectSearchIndex(
+            long maxStudents,
+            Duration idleTtl,
+            Duration maxAge,
+            MeterRegistry meterRegistry,
+            Ticker ticker
+    ) {
+        this.ticker = ticker;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(maxStudents)
+                .expireAfter(new IdleOrMaxAge(idleTtl.toNanos(), maxAge.toNanos()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, CACHE_NAME);
+    }
+
+    @Override
+    public List<Subject> search(String studentId, SubjectFilter filter, Function<String, List<Subject>> loader) {
+        StudentSubjectIndex index = indexes.get(studentId, id -> {
+            StudentSubjectIndex built = StudentSubjectIndex.of(loader.apply(id));
+            log.debug("Subject search index built for student {} with {} subjects", id, built.size());
+            return new LoadedIndex(built, ticker.read());
+        }).index();
+
+        return index.search(filter.getSearch()).stream()
+                .filter(subject -> matches(subject, filter))
+                .toList();
+    }
+
+    @Override
+    public void index(Subject subject) {
+        afterCommit(() -> indexes.asMap().computeIfPresent(
+                subject.getStudentId(), (id, loaded) -> loaded.update(loaded.index().with(subject))));
+    }
+
+    @Override
+    public void remove(String studentId, String subjectId) {
+        afterCommit(() -> indexes.asMap().computeIfPresent(
+                studentId, (id, loaded) -> loaded.update(loaded.index().without(subjectId))));
+    }
+
+    @Override
+    public void evict(String studentId) {
+        afterCommit(() -> indexes.invalidate(studentId));
+    }
+
+    /**
+     * Only students with a built index are updated. A build running
+     * concurrently holds the entry, so the update waits and applies on top.
+     */
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private boolean matches(Subject subject, SubjectFilter filter) {
+        if (filter.getPeriodId() != null && !filter.getPeriodId().isBlank()
+                && !filter.getPeriodId().trim().equals(subject.getPeriodId())) {
+            return false;
+        }
+        if (filter.getProfessor() != null && !filter.getProfessor().isBlank()
+                && (subject.getProfessor() == null
+                || !SubjectTokenizer.normalize(subject.getProfessor())
+                        .contains(SubjectTokenizer.normalize(filter.getProfessor().trim())))) {
+            return false;
+        }
+        return filter.getCredits() == null || Objects.equals(filter.getCredits(), subject.getCredits());
+    }
+
+    /**
+     * Index plus the ticker time it was loaded from the database
+     */
+    private record LoadedIndex(StudentSubjectIndex index, long loadedAt) {
+
+        LoadedIndex update(StudentSubjectIndex updated) {
+            return new LoadedIndex(updated, loadedAt);
+        }
+    }
+
+    /**
+     * Expires after idle-ttl without searches or max-age after loading,
+     * whichever comes first
+     */
+    private record IdleOrMaxAge(long idleNanos, long maxAgeNanos) implements Expiry<String, LoadedIndex> {
+
+        @Override
+        public long expireAfterCreate(String studentId, LoadedIndex loaded, long currentTime) {
+            return remaining(loaded, currentTime);
+        }
+
+        @Override
+        public long expireAfterUpdate(String studentId, LoadedIndex loaded, long currentTime, long currentDuration) {
+            return remaining(loaded, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String studentId, LoadedIndex loaded, long currentTime, long currentDuration) {
+            return remaining(loaded, currentTime);
+        }
+
+        private long remaining(LoadedIndex loaded, long currentTime) {
+            return Math.max(0, Math.min(idleNanos, loaded.loadedAt() + maxAgeNanos - currentTime));
+        }
+    }
+}
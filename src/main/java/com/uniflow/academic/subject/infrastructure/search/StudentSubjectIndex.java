@@ -0,0 +1,146 @@
+package com.uniflow.academic.subject.infrastructure.search;
+
+import com.uniflow.academic.subject.domain.Subject;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable inverted index over the subjects of one student.
+ * Writes build a new instance, so searches never need a lock; a student
+ * has tens of subjects, rebuilding is cheaper than coordinating readers.
+ */
+final class StudentSubjectIndex {
+
+    private static final int EXACT_SCORE = 4;
+    private static final int PREFIX_SCORE = 3;
+    private static final int FUZZY_SCORE = 1;
+
+    private static final Comparator<Subject> NEWEST_FIRST = Comparator.comparing(
+            Subject::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()));
+
+    private final Map<String, Subject> subjects;
+    private final NavigableMap<String, Set<String>> postings;
+
+    private StudentSubjectIndex(Map<String, Subject> subjects) {
+        this.subjects = subjects;
+        this.postings = new TreeMap<>();
+        for (Subject subject : subjects.values()) {
+            for (String token : tokensOf(subject)) {
+                postings.computeIfAbsent(token, key -> new HashSet<>()).add(subject.getId());
+            }
+        }
+    }
+
+    static StudentSubjectIndex of(Collection<Subject> subjects) {
+        Map<String, Subject> byId = new LinkedHashMap<>();
+        subjects.forEach(subject -> byId.put(subject.getId(), subject));
+        return new StudentSubjectIndex(byId);
+    }
+
+    StudentSubjectIndex with(Subject subject) {
+        Map<String, Subject> byId = new LinkedHashMap<>(subjects);
+        byId.put(subject.getId(), subject);
+        return new StudentSubjectIndex(byId);
+    }
+
+    StudentSubjectIndex without(String subjectId) {
+        if (!subjects.containsKey(subjectId)) {
+            return this;
+        }
+        Map<String, Subject> byId = new LinkedHashMap<>(subjects);
+        byId.remove(subjectId);
+        return new StudentSubjectIndex(byId);
+    }
+
+    int size() {
+        return subjects.size();
+    }
+
+    /**
+     * Every query token must match some token of the subject: exactly,
+     * as a prefix, or within the allowed edit distance. Subjects are
+     * ranked by the sum of their best match per query token.
+     */
+    List<Subject> search(String query) {
+        Set<String> queryTokens = SubjectTokenizer.tokenize(query);
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Integer> scores = null;
+        for (String queryToken : queryTokens) {
+            Map<String, Integer> tokenScores = match(queryToken);
+            if (scores == null) {
+                scores = tokenScores;
+            } else {
+                scores.keySet().retainAll(tokenScores.keySet());
+                scores.replaceAll((id, score) -> score + tokenScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+
+        Map<String, Integer> finalScores = scores;
+        List<Subject> results = new ArrayList<>(finalScores.size());
+        finalScores.keySet().forEach(id -> results.add(subjects.get(id)));
+        results.sort(Comparator.<Subject>comparingInt(subject -> finalScores.get(subject.getId()))
+                .reversed()
+                .thenComparing(NEWEST_FIRST));
+        return results;
+    }
+
+    private Map<String, Integer> match(String queryToken) {
+        Map<String, Integer> scores = new HashMap<>();
+        int maxDistance = EditDistance.allowedFor(queryToken);
+
+        for (Map.Entry<String, Set<String>> posting : postings.entrySet()) {
+            String token = posting.getKey();
+            int score;
+            if (token.equals(queryToken)) {
+                score = EXACT_SCORE;
+            } else if (token.startsWith(queryToken)) {
+                score = PREFIX_SCORE;
+            } else if (maxDistance > 0 && fuzzyMatches(queryToken, token, maxDistance)) {
+                score = FUZZY_SCORE;
+            } else {
+                continue;
+            }
+            for (String id : posting.getValue()) {
+                scores.merge(id, score, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    /**
+     * The query is usually a word still being typed, so it is compared both
+     * to the whole token and to the token prefix of the same length.
+     */
+    private static boolean fuzzyMatches(String queryToken, String token, int maxDistance) {
+        if (Math.abs(token.length() - queryToken.length()) <= maxDistance
+                && EditDistance.within(queryToken, token, maxDistance)) {
+            return true;
+        }
+        return token.length() > queryToken.length()
+                && EditDistance.within(queryToken, token.substring(0, queryToken.length()), maxDistance);
+    }
+
+    private static Set<String> tokensOf(Subject subject) {
+        Set<String> tokens = SubjectTokenizer.tokenize(subject.getName());
+        tokens.addAll(SubjectTokenizer.tokenize(subject.getCode()));
+        tokens.addAll(SubjectTokenizer.tokenize(subject.getProfessor()));
+        return tokens;
+    }
+}
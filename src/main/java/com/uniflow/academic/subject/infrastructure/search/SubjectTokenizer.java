@@ -0,0 +1,44 @@
+package com.uniflow.academic.subject.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Splits subject text into search tokens: lower case, without accents,
+ * on any non alphanumeric character. "MAT101" also yields "mat" and "101"
+ * so codes can be found by either part.
+ */
+final class SubjectTokenizer {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+    private static final Pattern LETTER_DIGIT_BOUNDARY = Pattern.compile("(?<=\\p{L})(?=\\d)|(?<=\\d)(?=\\p{L})");
+
+    private SubjectTokenizer() {
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String word : SEPARATORS.split(normalize(text))) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            tokens.add(word);
+            for (String part : LETTER_DIGIT_BOUNDARY.split(word)) {
+                tokens.add(part);
+            }
+        }
+        return tokens;
+    }
+}
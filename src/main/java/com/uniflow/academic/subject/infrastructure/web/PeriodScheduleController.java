@@ -0,0 +1,53 @@
+package com.uniflow.academic.subject.infrastructure.web;
+
+import com.uniflow.academic.subject.application.ports.in.GetScheduleConflictsQuery;
+import com.uniflow.academic.subject.infrastructure.web.dto.ScheduleConflictsHttpResponse;
+import com.uniflow.academic.subject.infrastructure.web.dto.mapper.SubjectHttpMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/periods/{periodId}/schedule")
+@RequiredArgsConstructor
+@Tag(name = "Subjects", description = "Subject management endpoints")
+@SecurityRequirement(name = "bearer-jwt")
+public class PeriodScheduleController {
+
+    private final GetScheduleConflictsQuery getScheduleConflictsQuery;
+    private final SubjectHttpMapper mapper;
+
+    @GetMapping("/conflicts")
+    @Operation(summary = "Get overlapping classes between subjects of a period")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Conflicts retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = ScheduleConflictsHttpResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Period does not belong to the student"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<ScheduleConflictsHttpResponse> getScheduleConflicts(
+            @PathVariable String periodId,
+            Authentication authentication
+    ) {
+        log.info("GET /periods/{}/schedule/conflicts - list schedule conflicts", periodId);
+        String studentId = authentication.getName();
+        var conflicts = getScheduleConflictsQuery.execute(periodId, studentId);
+        return ResponseEntity.ok(mapper.toScheduleConflictsResponse(conflicts));
+    }
+}
@@ -1,6 +1,7 @@
 package com.uniflow.academic.subject.infrastructure.web;
 
 import com.uniflow.academic.subject.application.ports.in.GetSubjectsByPeriodQuery;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPageRequest;
 import com.uniflow.academic.subject.infrastructure.web.dto.SubjectsByPeriodHttpResponse;
 import com.uniflow.academic.subject.infrastructure.web.dto.mapper.SubjectHttpMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,6 +18,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -31,23 +33,33 @@ public class PeriodSubjectsController {
     private final SubjectHttpMapper mapper;
 
     @GetMapping
-    @Operation(summary = "Get subjects by period")
+    @Operation(
+            summary = "Get subjects by period",
+            description = "Newest first, paged with `after` = pagination.nextCursor"
+    )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "Subjects retrieved successfully",
                     content = @Content(schema = @Schema(implementation = SubjectsByPeriodHttpResponse.class))
             ),
+            @ApiResponse(responseCode = "400", description = "Invalid pagination cursor"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "404", description = "Period not found")
     })
     public ResponseEntity<SubjectsByPeriodHttpResponse> getSubjectsByPeriod(
             @PathVariable String periodId,
+            @RequestParam(defaultValue = "" + SubjectPageRequest.DEFAULT_LIMIT) Integer limit,
+            @RequestParam(required = false) String after,
             Authentication authentication
     ) {
         log.info("GET /periods/{}/subjects - list subjects", periodId);
         String studentId = authentication.getName();
-        var subjects = getSubjectsByPeriodQuery.execute(periodId, studentId);
+        SubjectPageRequest page = SubjectPageRequest.builder()
+                .limit(limit)
+                .after(after)
+                .build();
+        var subjects = getSubjectsByPeriodQuery.execute(periodId, studentId, page);
         return ResponseEntity.ok(mapper.toSubjectsByPeriodResponse(subjects));
     }
 }
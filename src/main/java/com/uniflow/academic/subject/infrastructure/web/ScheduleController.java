@@ -0,0 +1,100 @@
+package com.uniflow.academic.subject.infrastructure.web;
+
+import com.uniflow.academic.subject.application.ports.in.GetScheduleTimelineQuery;
+import com.uniflow.academic.subject.infrastructure.web.dto.FreeSlotsHttpResponse;
+import com.uniflow.academic.subject.infrastructure.web.dto.NextClassHttpResponse;
+import com.uniflow.academic.subject.infrastructure.web.dto.mapper.SubjectHttpMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/schedule")
+@RequiredArgsConstructor
+@Tag(name = "Subjects", description = "Subject management endpoints")
+@SecurityRequirement(name = "bearer-jwt")
+public class ScheduleController {
+
+    private final GetScheduleTimelineQuery getScheduleTimelineQuery;
+    private final SubjectHttpMapper mapper;
+
+    @GetMapping("/next")
+    @Operation(
+            summary = "Get the current and next class",
+            description = "Looks at the subjects of the active period"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Next class retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = NextClassHttpResponse.class))
+            ),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<NextClassHttpResponse> getNextClass(
+            @Parameter(description = "Student local time (ISO date-time); defaults to server time")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at,
+            Authentication authentication
+    ) {
+        log.info("GET /schedule/next - next class");
+        String studentId = authentication.getName();
+        var response = getScheduleTimelineQuery.nextClass(studentId, at != null ? at : LocalDateTime.now());
+        return ResponseEntity.ok(mapper.toNextClassResponse(response));
+    }
+
+    @GetMapping("/free")
+    @Operation(
+            summary = "Get free time ranges",
+            description = "Gaps between classes of the active period within a daily window"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Free slots retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = FreeSlotsHttpResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid time window"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<FreeSlotsHttpResponse> getFreeSlots(
+            @Parameter(description = "Days to include (e.g. MONDAY); all days when omitted")
+            @RequestParam(required = false) List<DayOfWeek> day,
+
+            @Parameter(description = "Window start", example = "07:00")
+            @RequestParam(defaultValue = "07:00") @DateTimeFormat(pattern = "HH:mm") LocalTime from,
+
+            @Parameter(description = "Window end", example = "22:00")
+            @RequestParam(defaultValue = "22:00") @DateTimeFormat(pattern = "HH:mm") LocalTime to,
+
+            @Parameter(description = "Shortest free range to report, in minutes")
+            @RequestParam(defaultValue = "30") Integer minMinutes,
+
+            Authentication authentication
+    ) {
+        log.info("GET /schedule/free - free slots");
+        String studentId = authentication.getName();
+        var request = new GetScheduleTimelineQuery.FreeSlotsRequest(day, from, to, minMinutes);
+        var response = getScheduleTimelineQuery.freeSlots(studentId, request);
+        return ResponseEntity.ok(mapper.toFreeSlotsResponse(response));
+    }
+}
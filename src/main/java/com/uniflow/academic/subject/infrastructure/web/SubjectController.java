@@ -2,6 +2,7 @@ package com.uniflow.academic.subject.infrastructure.web;
 
 import com.uniflow.academic.subject.application.ports.in.*;
 import com.uniflow.academic.subject.application.ports.out.dto.SubjectFilter;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPageRequest;
 import com.uniflow.academic.subject.infrastructure.web.dto.*;
 import com.uniflow.academic.subject.infrastructure.web.dto.mapper.SubjectHttpMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,6 +34,7 @@ public class SubjectController {
     private final GetSubjectsQuery getSubjectsQuery;
     private final GetSubjectByIdQuery getSubjectByIdQuery;
     private final ValidateSubjectCodeQuery validateSubjectCodeQuery;
+    private final ValidateSubjectCodesQuery validateSubjectCodesQuery;
     private final SubjectHttpMapper mapper;
 
     @PostMapping
@@ -58,13 +60,18 @@ public class SubjectController {
     }
 
     @GetMapping
-    @Operation(summary = "Get subjects for the authenticated user")
+    @Operation(
+            summary = "Get subjects for the authenticated user",
+            description = "Newest first, paged with `after` = pagination.nextCursor. "
+                    + "With `search`, returns the best `limit` matches by relevance and no cursor"
+    )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "Subjects retrieved successfully",
                     content = @Content(schema = @Schema(implementation = UserSubjectsHttpResponse.class))
             ),
+            @ApiResponse(responseCode = "400", description = "Invalid pagination cursor"),
             @ApiResponse(responseCode = "401", description = "Unauthorized")
     })
     public ResponseEntity<UserSubjectsHttpResponse> getSubjects(
@@ -72,6 +79,8 @@ public class SubjectController {
             @RequestParam(required = false) String professor,
             @RequestParam(required = false) Integer credits,
             @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "" + SubjectPageRequest.DEFAULT_LIMIT) Integer limit,
+            @RequestParam(required = false) String after,
             Authentication authentication
     ) {
         log.info("GET /subjects - list subjects");
@@ -84,7 +93,12 @@ public class SubjectController {
                 .search(search)
                 .build();
 
-        var subjects = getSubjectsQuery.execute(studentId, filter);
+        SubjectPageRequest page = SubjectPageRequest.builder()
+                .limit(limit)
+                .after(after)
+                .build();
+
+        var subjects = getSubjectsQuery.execute(studentId, filter, page);
         return ResponseEntity.ok(mapper.toUserSubjectsResponse(subjects));
     }
 
@@ -176,4 +190,29 @@ public class SubjectController {
         );
         return ResponseEntity.ok(mapper.toValidateCodeResponse(response));
     }
+
+    @PostMapping("/validate-codes")
+    @Operation(summary = "Validate many subject codes of one period")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Validation result per code",
+                    content = @Content(schema = @Schema(implementation = ValidateSubjectCodesHttpResponse.class))
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid validation request"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized")
+    })
+    public ResponseEntity<ValidateSubjectCodesHttpResponse> validateCodes(
+            @Valid @RequestBody ValidateSubjectCodesHttpRequest request,
+            Authentication authentication
+    ) {
+        log.info("POST /subjects/validate-codes - validate {} subject codes", request.getCodes().size());
+        String studentId = authentication.getName();
+        var responses = validateSubjectCodesQuery.execute(
+                request.getCodes(),
+                request.getPeriodId(),
+                studentId
+        );
+        return ResponseEntity.ok(mapper.toValidateCodesResponse(request.getPeriodId(), responses));
+    }
 }
@@ -0,0 +1,18 @@
+package com.uniflow.academic.subject.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class FreeSlotsHttpResponse {
+
+    @Schema(description = "Active period; null when the student has none")
+    String periodId;
+
+    @Schema(description = "Free time ranges in week order")
+    List<ScheduleSlotHttpResponse> slots;
+}
@@ -0,0 +1,32 @@
+package com.uniflow.academic.subject.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+@Value
+@Builder
+public class NextClassHttpResponse {
+
+    @Schema(description = "Active period; null when the student has none")
+    String periodId;
+
+    @Schema(description = "Class in progress, if any")
+    ClassOccurrence current;
+
+    @Schema(description = "Next class to start, if any")
+    ClassOccurrence next;
+
+    @Value
+    @Builder
+    public static class ClassOccurrence {
+        String subjectId;
+        String code;
+        String name;
+        String color;
+        LocalDateTime start;
+        LocalDateTime end;
+    }
+}
@@ -0,0 +1,37 @@
+package com.uniflow.academic.subject.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class ScheduleConflictsHttpResponse {
+
+    @Schema(description = "Pairs of subjects with overlapping classes")
+    List<Conflict> conflicts;
+
+    @Value
+    @Builder
+    public static class Conflict {
+
+        @Schema(description = "First subject of the pair")
+        SubjectRef first;
+
+        @Schema(description = "Second subject of the pair")
+        SubjectRef second;
+
+        @Schema(description = "Time ranges where both subjects have class")
+        List<ScheduleSlotHttpResponse> overlaps;
+    }
+
+    @Value
+    @Builder
+    public static class SubjectRef {
+        String id;
+        String code;
+        String name;
+    }
+}
@@ -0,0 +1,19 @@
+package com.uniflow.academic.subject.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ScheduleSlotHttpResponse {
+
+    @Schema(description = "Day of week", example = "MONDAY")
+    String day;
+
+    @Schema(description = "Start time", example = "08:00")
+    String start;
+
+    @Schema(description = "End time (exclusive)", example = "09:50")
+    String end;
+}
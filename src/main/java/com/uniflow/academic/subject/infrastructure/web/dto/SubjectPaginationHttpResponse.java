@@ -0,0 +1,20 @@
+package com.uniflow.academic.subject.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class SubjectPaginationHttpResponse {
+
+    @Schema(description = "Items per page", example = "50")
+    Integer limit;
+
+    @Schema(description = "Whether there is a next page")
+    Boolean hasNext;
+
+    @Schema(description = "Value for `after` to fetch the next page; null on the last page",
+            example = "MjAyNS0wMi0wMVQxMDowMHw0ZjNh")
+    String nextCursor;
+}
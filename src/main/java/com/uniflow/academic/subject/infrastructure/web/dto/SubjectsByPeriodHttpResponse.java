@@ -12,4 +12,7 @@ public class SubjectsByPeriodHttpResponse {
 
     @Schema(description = "Subjects within the period")
     List<SubjectHttpResponse> subjects;
+
+    @Schema(description = "Pagination metadata")
+    SubjectPaginationHttpResponse pagination;
 }
@@ -12,4 +12,7 @@ public class UserSubjectsHttpResponse {
 
     @Schema(description = "Subjects for the authenticated user")
     List<SubjectHttpResponse> data;
+
+    @Schema(description = "Pagination metadata")
+    SubjectPaginationHttpResponse pagination;
 }
@@ -16,4 +16,7 @@ public class ValidateSubjectCodeHttpResponse {
 
     @Schema(description = "Validation message")
     String message;
+
+    @Schema(description = "Suggested delay in milliseconds before validating the next keystroke")
+    Long debounceMs;
 }
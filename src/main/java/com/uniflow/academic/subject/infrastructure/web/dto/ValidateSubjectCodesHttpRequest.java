@@ -0,0 +1,25 @@
+package com.uniflow.academic.subject.infrastructure.web.dto;
+
+import com.uniflow.academic.subject.application.ports.in.ValidateSubjectCodesQuery;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class ValidateSubjectCodesHttpRequest {
+
+    @Schema(description = "Subject codes to validate", example = "[\"IC-5401\", \"MA-1102\"]")
+    @NotEmpty
+    @Size(max = ValidateSubjectCodesQuery.MAX_CODES)
+    List<String> codes;
+
+    @Schema(description = "Associated period identifier", example = "period-2025-1")
+    @NotBlank
+    String periodId;
+}
@@ -0,0 +1,18 @@
+package com.uniflow.academic.subject.infrastructure.web.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class ValidateSubjectCodesHttpResponse {
+
+    @Schema(description = "Period identifier", example = "period-2025-1")
+    String periodId;
+
+    @Schema(description = "One result per requested code, in request order")
+    List<ValidateSubjectCodeResultHttpResponse> results;
+}
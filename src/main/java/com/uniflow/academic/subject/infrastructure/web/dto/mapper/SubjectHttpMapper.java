@@ -1,10 +1,15 @@
 package com.uniflow.academic.subject.infrastructure.web.dto.mapper;
 
 import com.uniflow.academic.subject.application.ports.in.CreateSubjectCommand;
+import com.uniflow.academic.subject.application.ports.in.GetScheduleTimelineQuery;
 import com.uniflow.academic.subject.application.ports.in.UpdateSubjectCommand;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPage;
 import com.uniflow.academic.subject.application.ports.out.dto.SubjectStatisticsResponse;
 import com.uniflow.academic.subject.application.ports.out.dto.ValidateSubjectCodeResponse;
+import com.uniflow.academic.subject.domain.PeriodSchedule;
+import com.uniflow.academic.subject.domain.ScheduleSlot;
 import com.uniflow.academic.subject.domain.Subject;
+import com.uniflow.academic.subject.domain.WeeklyTimeline;
 import com.uniflow.academic.subject.infrastructure.web.dto.*;
 import org.springframework.stereotype.Component;
 
@@ -55,21 +60,91 @@ public class SubjectHttpMapper {
                 .build();
     }
 
-    public UserSubjectsHttpResponse toUserSubjectsResponse(List<Subject> subjects) {
-        List<SubjectHttpResponse> data = subjects.stream()
-                .map(this::toHttpResponse)
-                .collect(Collectors.toList());
+    public UserSubjectsHttpResponse toUserSubjectsResponse(SubjectPage page) {
         return UserSubjectsHttpResponse.builder()
-                .data(data)
+                .data(toHttpResponses(page.getData()))
+                .pagination(toPaginationHttpResponse(page))
                 .build();
     }
 
-    public SubjectsByPeriodHttpResponse toSubjectsByPeriodResponse(List<Subject> subjects) {
-        List<SubjectHttpResponse> data = subjects.stream()
+    public SubjectsByPeriodHttpResponse toSubjectsByPeriodResponse(SubjectPage page) {
+        return SubjectsByPeriodHttpResponse.builder()
+                .subjects(toHttpResponses(page.getData()))
+                .pagination(toPaginationHttpResponse(page))
+                .build();
+    }
+
+    private List<SubjectHttpResponse> toHttpResponses(List<Subject> subjects) {
+        return subjects.stream()
                 .map(this::toHttpResponse)
                 .collect(Collectors.toList());
-        return SubjectsByPeriodHttpResponse.builder()
-                .subjects(data)
+    }
+
+    private SubjectPaginationHttpResponse toPaginationHttpResponse(SubjectPage page) {
+        return SubjectPaginationHttpResponse.builder()
+                .limit(page.getLimit())
+                .hasNext(page.getHasNext())
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
+    public ScheduleConflictsHttpResponse toScheduleConflictsResponse(List<PeriodSchedule.Conflict> conflicts) {
+        return ScheduleConflictsHttpResponse.builder()
+                .conflicts(conflicts.stream()
+                        .map(conflict -> ScheduleConflictsHttpResponse.Conflict.builder()
+                                .first(toSubjectRef(conflict.first()))
+                                .second(toSubjectRef(conflict.second()))
+                                .overlaps(toSlotResponses(conflict.overlaps()))
+                                .build())
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    public List<ScheduleSlotHttpResponse> toSlotResponses(List<ScheduleSlot> slots) {
+        return slots.stream()
+                .map(slot -> ScheduleSlotHttpResponse.builder()
+                        .day(slot.day().name())
+                        .start(slot.start().toString())
+                        .end(slot.endMinute() == 24 * 60 ? "24:00" : slot.end().toString())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    public NextClassHttpResponse toNextClassResponse(GetScheduleTimelineQuery.NextClassResponse response) {
+        return NextClassHttpResponse.builder()
+                .periodId(response.periodId())
+                .current(toOccurrence(response.current()))
+                .next(toOccurrence(response.next()))
+                .build();
+    }
+
+    public FreeSlotsHttpResponse toFreeSlotsResponse(GetScheduleTimelineQuery.FreeSlotsResponse response) {
+        return FreeSlotsHttpResponse.builder()
+                .periodId(response.periodId())
+                .slots(toSlotResponses(response.slots()))
+                .build();
+    }
+
+    private NextClassHttpResponse.ClassOccurrence toOccurrence(WeeklyTimeline.ClassOccurrence occurrence) {
+        if (occurrence == null) {
+            return null;
+        }
+        Subject subject = occurrence.subject();
+        return NextClassHttpResponse.ClassOccurrence.builder()
+                .subjectId(subject.getId())
+                .code(subject.getCode())
+                .name(subject.getName())
+                .color(subject.getColor())
+                .start(occurrence.start())
+                .end(occurrence.end())
+                .build();
+    }
+
+    private ScheduleConflictsHttpResponse.SubjectRef toSubjectRef(Subject subject) {
+        return ScheduleConflictsHttpResponse.SubjectRef.builder()
+                .id(subject.getId())
+                .code(subject.getCode())
+                .name(subject.getName())
                 .build();
     }
 
@@ -78,6 +153,24 @@ public class SubjectHttpMapper {
                 .isValid(response.isValid())
                 .isAvailable(response.isAvailable())
                 .message(response.getMessage())
+                .debounceMs(response.getDebounceMs())
+                .build();
+    }
+
+    public ValidateSubjectCodesHttpResponse toValidateCodesResponse(
+            String periodId,
+            List<ValidateSubjectCodeResponse> responses
+    ) {
+        return ValidateSubjectCodesHttpResponse.builder()
+                .periodId(periodId)
+                .results(responses.stream()
+                        .map(response -> ValidateSubjectCodeResultHttpResponse.builder()
+                                .code(response.getCode())
+                                .isValid(response.isValid())
+                                .isAvailable(response.isAvailable())
+                                .message(response.getMessage())
+                                .build())
+                        .toList())
                 .build();
     }
 
@@ -1,6 +1,7 @@
 package com.uniflow.academic.subject.infrastructure.web.exception_handler;
 
 import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
+import com.uniflow.academic.subject.domain.exception.ScheduleConflictException;
 import com.uniflow.academic.subject.domain.exception.SubjectCodeAlreadyExistsException;
 import com.uniflow.academic.subject.domain.exception.SubjectDeletionException;
 import com.uniflow.academic.subject.domain.exception.SubjectNotFoundException;
@@ -36,6 +37,13 @@ public class SubjectExceptionHandler {
                 .body(ErrorResponse.of(HttpStatus.BAD_REQUEST, ex.getMessage()));
     }
 
+    @ExceptionHandler(ScheduleConflictException.class)
+    public ResponseEntity<ErrorResponse> handleScheduleConflict(ScheduleConflictException ex) {
+        log.warn("Schedule conflict: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(ErrorResponse.of(HttpStatus.CONFLICT, ex.getMessage()));
+    }
+
     @ExceptionHandler(SubjectDeletionException.class)
     public ResponseEntity<ErrorResponse> handleDeletion(SubjectDeletionException ex) {
         log.warn("Cannot delete subject: {}", ex.getMessage());
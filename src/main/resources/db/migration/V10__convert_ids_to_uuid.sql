@@ -0,0 +1,23 @@
+-- Native uuid keys: 16 bytes instead of 36 characters, so smaller
+-- primary key / foreign key indexes and cheaper joins. New ids are
+-- UUIDv7 (time ordered) so inserts append to the right of the B-tree.
+--
+-- student_id columns hold the identity provider subject, not a UUID,
+-- and stay text. Existing v4 ids are converted in place.
+
+ALTER TABLE academic.subjects DROP CONSTRAINT fk_subject_period;
+
+ALTER TABLE academic.students
+    ALTER COLUMN id TYPE UUID USING id::uuid;
+
+ALTER TABLE academic.periods
+    ALTER COLUMN id TYPE UUID USING id::uuid;
+
+ALTER TABLE academic.subjects
+    ALTER COLUMN id TYPE UUID USING id::uuid,
+    ALTER COLUMN period_id TYPE UUID USING period_id::uuid;
+
+ALTER TABLE academic.subjects
+    ADD CONSTRAINT fk_subject_period
+        FOREIGN KEY (period_id) REFERENCES academic.periods (id)
+        ON DELETE CASCADE;
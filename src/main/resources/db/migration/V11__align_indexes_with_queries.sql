@@ -0,0 +1,41 @@
+-- Indexes matched to the repository queries. Every period and subject
+-- query filters on student_id first, so single-column indexes on
+-- is_active, type, year or dates are never chosen and only slow writes.
+--
+-- Periods
+--   listing / keyset / overlap  -> idx_period_student_start_id (V4)
+--   active period lookups       -> uq_period_one_active_per_student (V5, partial on is_active)
+--   statistics fallback         -> idx_period_student_start_id, index-only through INCLUDE
+-- Subjects
+--   listing / keyset            -> idx_subject_student_created_id (V7)
+--   by period                   -> idx_subject_student_period_created_id (V7)
+--   code lookups                -> uk_subject_period_code (V2, LOWER(code))
+--   statistics fallback         -> idx_subject_student_period_created_id, index-only through INCLUDE
+--   cascade / NOT EXISTS on delete -> idx_subject_period (V2)
+
+DROP INDEX IF EXISTS academic.idx_period_student_id;
+DROP INDEX IF EXISTS academic.idx_period_is_active;
+DROP INDEX IF EXISTS academic.idx_period_year;
+DROP INDEX IF EXISTS academic.idx_period_type;
+DROP INDEX IF EXISTS academic.idx_period_student_active;
+DROP INDEX IF EXISTS academic.idx_period_start_date;
+DROP INDEX IF EXISTS academic.idx_period_end_date;
+
+-- Same key as V4, plus the columns read by the statistics aggregate
+DROP INDEX IF EXISTS academic.idx_period_student_start_id;
+CREATE INDEX idx_period_student_start_id
+    ON academic.periods (student_id, start_date DESC, id DESC)
+    INCLUDE (type, is_active, end_date);
+
+-- Prefix of idx_subject_student_created_id and uk_subject_period_code
+DROP INDEX IF EXISTS academic.idx_subject_student;
+
+-- Professor filters are LOWER(professor) LIKE '%...%', applied to the student's rows
+-- found through idx_subject_student_created_id (V7); a plain btree never matches them
+DROP INDEX IF EXISTS academic.idx_subject_professor;
+
+-- Same key as V7, plus the columns read by the statistics aggregate
+DROP INDEX IF EXISTS academic.idx_subject_student_period_created_id;
+CREATE INDEX idx_subject_student_period_created_id
+    ON academic.subjects (student_id, period_id, created_at DESC, id DESC)
+    INCLUDE (professor, credits);
@@ -11,11 +11,25 @@ CREATE TABLE IF NOT EXISTS academic.students (
     updated_at TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW()
 );
 
-ALTER TABLE academic.students
-    ADD CONSTRAINT IF NOT EXISTS uk_student_provider UNIQUE (provider, provider_id);
+-- PostgreSQL has no ADD CONSTRAINT IF NOT EXISTS; the table may already
+-- exist (CREATE TABLE IF NOT EXISTS), so check pg_constraint instead
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conname = 'uk_student_provider'
+                   AND conrelid = 'academic.students'::regclass) THEN
+        ALTER TABLE academic.students
+            ADD CONSTRAINT uk_student_provider UNIQUE (provider, provider_id);
+    END IF;
 
-ALTER TABLE academic.students
-    ADD CONSTRAINT IF NOT EXISTS uk_student_student_id UNIQUE (student_id);
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conname = 'uk_student_student_id'
+                   AND conrelid = 'academic.students'::regclass) THEN
+        ALTER TABLE academic.students
+            ADD CONSTRAINT uk_student_student_id UNIQUE (student_id);
+    END IF;
+END
+$$;
 
 CREATE INDEX IF NOT EXISTS idx_student_email
     ON academic.students (email);
@@ -0,0 +1,3 @@
+-- Keyset pagination for GET /periods: ORDER BY start_date DESC, id DESC per student
+CREATE INDEX idx_period_student_start_id
+    ON academic.periods(student_id, start_date DESC, id DESC);
@@ -0,0 +1,24 @@
+-- At most one active period per student
+--
+-- Activation flips every row of the student in a single UPDATE. A plain
+-- partial unique index is checked row by row and can fail mid-statement
+-- depending on row order, so the rule is an exclusion constraint over the
+-- same partial btree index (student_id WHERE is_active), DEFERRABLE so
+-- it is checked once at the end of each statement.
+
+-- Keep only the most recently updated active period of each student
+UPDATE academic.periods p
+SET is_active = FALSE
+WHERE p.is_active
+AND EXISTS (
+    SELECT 1 FROM academic.periods newer
+    WHERE newer.student_id = p.student_id
+    AND newer.is_active
+    AND (newer.updated_at > p.updated_at
+         OR (newer.updated_at = p.updated_at AND newer.id > p.id))
+);
+
+ALTER TABLE academic.periods
+    ADD CONSTRAINT uq_period_one_active_per_student
+    EXCLUDE USING btree (student_id WITH =) WHERE (is_active)
+    DEFERRABLE INITIALLY IMMEDIATE;
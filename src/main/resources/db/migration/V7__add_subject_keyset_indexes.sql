@@ -0,0 +1,7 @@
+-- Keyset pagination for GET /subjects and GET /periods/{id}/subjects:
+-- ORDER BY created_at DESC, id DESC per student, optionally within a period
+CREATE INDEX IF NOT EXISTS idx_subject_student_created_id
+    ON academic.subjects (student_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_subject_student_period_created_id
+    ON academic.subjects (student_id, period_id, created_at DESC, id DESC);
@@ -0,0 +1,40 @@
+-- Store subjects.schedule as jsonb (a JSON array of schedule entries)
+--
+-- Rows written by the old TEXT converter are JSON arrays already. Anything
+-- else is kept rather than dropped: blank/null becomes [], a JSON scalar or
+-- object becomes a one-element array, and text that is not JSON at all is
+-- kept as a single string entry.
+CREATE FUNCTION academic.schedule_to_jsonb(value TEXT) RETURNS JSONB
+    LANGUAGE plpgsql IMMUTABLE AS
+$$
+DECLARE
+    parsed JSONB;
+BEGIN
+    IF value IS NULL OR btrim(value) = '' THEN
+        RETURN '[]'::jsonb;
+    END IF;
+    BEGIN
+        parsed := value::jsonb;
+    EXCEPTION WHEN invalid_text_representation THEN
+        RETURN jsonb_build_array(value);
+    END;
+    IF jsonb_typeof(parsed) = 'array' THEN
+        RETURN parsed;
+    END IF;
+    IF jsonb_typeof(parsed) = 'null' THEN
+        RETURN '[]'::jsonb;
+    END IF;
+    RETURN jsonb_build_array(parsed);
+END;
+$$;
+
+ALTER TABLE academic.subjects
+    ALTER COLUMN schedule TYPE JSONB USING academic.schedule_to_jsonb(schedule),
+    ALTER COLUMN schedule SET DEFAULT '[]'::jsonb,
+    ALTER COLUMN schedule SET NOT NULL;
+
+DROP FUNCTION academic.schedule_to_jsonb(TEXT);
+
+-- Containment queries, e.g. schedule @> '["Monday 08:00-10:00"]'
+CREATE INDEX IF NOT EXISTS idx_subject_schedule
+    ON academic.subjects USING GIN (schedule jsonb_path_ops);
@@ -0,0 +1,79 @@
+-- Per-student statistics counters, maintained by the write use cases in
+-- the same transaction as the change. GET /stats/subjects and
+-- GET /periods/stats read one row instead of aggregating source rows.
+--
+-- Grouped counts are jsonb objects {"key": count}; writes merge a delta
+-- object with academic.jsonb_add_counts, which drops keys that reach 0.
+
+CREATE FUNCTION academic.jsonb_add_counts(counts JSONB, delta JSONB) RETURNS JSONB
+    LANGUAGE sql IMMUTABLE AS
+$$
+SELECT COALESCE(jsonb_object_agg(key, total), '{}'::jsonb)
+FROM (
+    SELECT key, SUM(value::bigint) AS total
+    FROM (
+        SELECT key, value FROM jsonb_each_text(counts)
+        UNION ALL
+        SELECT key, value FROM jsonb_each_text(delta)
+    ) entries
+    GROUP BY key
+) sums
+WHERE total <> 0
+$$;
+
+CREATE TABLE academic.student_subject_stats (
+    student_id VARCHAR(255) PRIMARY KEY,
+    total BIGINT NOT NULL DEFAULT 0,
+    total_credits BIGINT NOT NULL DEFAULT 0,
+    by_professor JSONB NOT NULL DEFAULT '{}'::jsonb,
+    by_credits JSONB NOT NULL DEFAULT '{}'::jsonb,
+    by_period JSONB NOT NULL DEFAULT '{}'::jsonb,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- date_ranges counts periods per "start|end" pair: current/upcoming/finished
+-- depend on today and the duration sum is derived from it when reading
+CREATE TABLE academic.student_period_stats (
+    student_id VARCHAR(255) PRIMARY KEY,
+    total BIGINT NOT NULL DEFAULT 0,
+    active BIGINT NOT NULL DEFAULT 0,
+    by_type JSONB NOT NULL DEFAULT '{}'::jsonb,
+    date_ranges JSONB NOT NULL DEFAULT '{}'::jsonb,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Backfill; the same statements are used by the statistics repair job
+INSERT INTO academic.student_subject_stats
+    (student_id, total, total_credits, by_professor, by_credits, by_period)
+SELECT t.student_id, t.total, t.total_credits,
+       COALESCE((SELECT jsonb_object_agg(g.professor, g.total) FROM (
+                SELECT COALESCE(s.professor, 'Unknown') AS professor, COUNT(*) AS total
+                FROM academic.subjects s WHERE s.student_id = t.student_id GROUP BY 1) g), '{}'::jsonb),
+       COALESCE((SELECT jsonb_object_agg(g.credits, g.total) FROM (
+                SELECT s.credits, COUNT(*) AS total
+                FROM academic.subjects s WHERE s.student_id = t.student_id AND s.credits IS NOT NULL
+                GROUP BY 1) g), '{}'::jsonb),
+       COALESCE((SELECT jsonb_object_agg(g.period_id, g.total) FROM (
+                SELECT s.period_id, COUNT(*) AS total
+                FROM academic.subjects s WHERE s.student_id = t.student_id GROUP BY 1) g), '{}'::jsonb)
+FROM (
+    SELECT student_id, COUNT(*) AS total, COALESCE(SUM(credits), 0) AS total_credits
+    FROM academic.subjects
+    GROUP BY student_id
+) t;
+
+INSERT INTO academic.student_period_stats
+    (student_id, total, active, by_type, date_ranges)
+SELECT t.student_id, t.total, t.active,
+       COALESCE((SELECT jsonb_object_agg(g.type, g.total) FROM (
+                SELECT p.type, COUNT(*) AS total
+                FROM academic.periods p WHERE p.student_id = t.student_id GROUP BY 1) g), '{}'::jsonb),
+       COALESCE((SELECT jsonb_object_agg(g.range, g.total) FROM (
+                SELECT to_char(p.start_date, 'YYYY-MM-DD') || '|' || to_char(p.end_date, 'YYYY-MM-DD') AS range,
+                       COUNT(*) AS total
+                FROM academic.periods p WHERE p.student_id = t.student_id GROUP BY 1) g), '{}'::jsonb)
+FROM (
+    SELECT student_id, COUNT(*) AS total, COUNT(*) FILTER (WHERE is_active) AS active
+    FROM academic.periods
+    GROUP BY student_id
+) t;
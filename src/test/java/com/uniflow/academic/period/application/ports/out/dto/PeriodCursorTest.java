@@ -0,0 +1,33 @@
+package com.uniflow.academic.period.application.ports.out.dto;
+
+import com.uniflow.academic.period.domain.exception.InvalidPeriodException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PeriodCursorTest {
+
+	@Test
+	void roundTripsStartDateAndId() {
+		String encoded = new PeriodCursor(LocalDate.of(2025, 2, 1), "4f3a9c1e-0000-4000-8000-000000000001").encode();
+
+		PeriodCursor decoded = PeriodCursor.decode(encoded);
+
+		assertThat(encoded).doesNotContain("|", "=", "+", "/");
+		assertThat(decoded.getStartDate()).isEqualTo(LocalDate.of(2025, 2, 1));
+		assertThat(decoded.getId()).isEqualTo("4f3a9c1e-0000-4000-8000-000000000001");
+	}
+
+	@Test
+	void rejectsTamperedCursor() {
+		assertThatThrownBy(() -> PeriodCursor.decode("not base64!"))
+				.isInstanceOf(InvalidPeriodException.class);
+		assertThatThrownBy(() -> PeriodCursor.decode("MjAyNS0xMy0wMXxhYmM"))
+				.isInstanceOf(InvalidPeriodException.class);
+		assertThatThrownBy(() -> PeriodCursor.decode("bm8tc2VwYXJhdG9y"))
+				.isInstanceOf(InvalidPeriodException.class);
+	}
+}
@@ -0,0 +1,59 @@
+package com.uniflow.academic.period.application.services;
+
+import com.uniflow.academic.period.application.ports.out.CurrentPeriodCache;
+import com.uniflow.academic.period.application.ports.out.PeriodRepository;
+import com.uniflow.academic.period.application.ports.out.PeriodStatisticsStore;
+import com.uniflow.academic.period.domain.Period;
+import com.uniflow.academic.period.domain.exception.PeriodNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ActivatePeriodServiceTest {
+
+	private PeriodRepository periodRepository;
+	private CurrentPeriodCache currentPeriodCache;
+	private PeriodStatisticsStore periodStatisticsStore;
+	private ActivatePeriodService service;
+
+	@BeforeEach
+	void setUp() {
+		periodRepository = mock(PeriodRepository.class);
+		currentPeriodCache = mock(CurrentPeriodCache.class);
+		periodStatisticsStore = mock(PeriodStatisticsStore.class);
+		service = new ActivatePeriodService(periodRepository, currentPeriodCache, periodStatisticsStore);
+	}
+
+	@Test
+	void activatesWithOneStatementAndReturnsPeriod() {
+		Period active = Period.builder().id("period-2").studentId("student-1").isActive(true).build();
+		when(periodRepository.activateExclusively("period-2", "student-1")).thenReturn(true);
+		when(periodRepository.findById("period-2", "student-1")).thenReturn(Optional.of(active));
+
+		assertThat(service.execute("period-2", "student-1").getIsActive()).isTrue();
+		verify(periodRepository, never()).findAllActive(any());
+		verify(periodRepository, never()).update(any());
+		verify(currentPeriodCache).evict("student-1");
+		verify(periodStatisticsStore).recordActivation("student-1");
+	}
+
+	@Test
+	void unknownPeriodIsNotFound() {
+		when(periodRepository.activateExclusively("missing", "student-1")).thenReturn(false);
+
+		assertThatThrownBy(() -> service.execute("missing", "student-1"))
+				.isInstanceOf(PeriodNotFoundException.class);
+		verify(periodRepository, never()).findById(any(), any());
+		verify(currentPeriodCache, never()).evict(any());
+		verify(periodStatisticsStore, never()).recordActivation(any());
+	}
+}
@@ -0,0 +1,84 @@
+package com.uniflow.academic.period.application.services;
+
+import com.uniflow.academic.period.application.ports.out.CurrentPeriodCache;
+import com.uniflow.academic.period.application.ports.out.PeriodRepository;
+import com.uniflow.academic.period.application.ports.out.PeriodStatisticsStore;
+import com.uniflow.academic.period.domain.Period;
+import com.uniflow.academic.period.domain.exception.PeriodNotFoundException;
+import com.uniflow.academic.subject.application.ports.in.ForgetPeriodSubjectsCommand;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DeletePeriodServiceTest {
+
+	private static final Period PERIOD = Period.builder().id("period-1").studentId("student-1").build();
+
+	private PeriodRepository periodRepository;
+	private CurrentPeriodCache currentPeriodCache;
+	private PeriodStatisticsStore periodStatisticsStore;
+	private ForgetPeriodSubjectsCommand forgetPeriodSubjectsCommand;
+	private DeletePeriodService service;
+
+	@BeforeEach
+	void setUp() {
+		periodRepository = mock(PeriodRepository.class);
+		currentPeriodCache = mock(CurrentPeriodCache.class);
+		periodStatisticsStore = mock(PeriodStatisticsStore.class);
+		forgetPeriodSubjectsCommand = mock(ForgetPeriodSubjectsCommand.class);
+		service = new DeletePeriodService(
+				periodRepository, currentPeriodCache, periodStatisticsStore, forgetPeriodSubjectsCommand);
+	}
+
+	@Test
+	void deletesWithOneStatementWithoutPriorChecks() {
+		when(periodRepository.deleteIfUnused("period-1", "student-1")).thenReturn(Optional.of(PERIOD));
+
+		service.execute("period-1", "student-1", false);
+
+		verify(periodRepository, never()).findById(any(), any());
+		verify(periodRepository, never()).existsByIdAndStudentId(any(), any());
+		verify(periodStatisticsStore).record(PERIOD, null);
+		verify(currentPeriodCache).evict("student-1");
+		verify(forgetPeriodSubjectsCommand, never()).execute(any(), any());
+	}
+
+	@Test
+	void periodWithSubjectsIsRejected() {
+		when(periodRepository.deleteIfUnused("period-1", "student-1")).thenReturn(Optional.empty());
+		when(periodRepository.existsByIdAndStudentId("period-1", "student-1")).thenReturn(true);
+
+		assertThatThrownBy(() -> service.execute("period-1", "student-1", false))
+				.isInstanceOf(IllegalStateException.class);
+		verify(periodStatisticsStore, never()).record(any(), any());
+	}
+
+	@Test
+	void unknownPeriodIsNotFound() {
+		when(periodRepository.deleteIfUnused("missing", "student-1")).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> service.execute("missing", "student-1", false))
+				.isInstanceOf(PeriodNotFoundException.class);
+		verify(currentPeriodCache, never()).evict(any());
+	}
+
+	@Test
+	void forceCascadesAndForgetsTheSubjects() {
+		when(periodRepository.deleteWithSubjects("period-1", "student-1")).thenReturn(Optional.of(PERIOD));
+
+		service.execute("period-1", "student-1", true);
+
+		verify(periodRepository, never()).deleteIfUnused(any(), any());
+		verify(periodStatisticsStore).record(PERIOD, null);
+		verify(forgetPeriodSubjectsCommand).execute("period-1", "student-1");
+		verify(currentPeriodCache).evict("student-1");
+	}
+}
@@ -0,0 +1,69 @@
+package com.uniflow.academic.period.infrastructure.cache;
+
+import com.uniflow.academic.period.domain.Period;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CaffeineCurrentPeriodCacheTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private CaffeineCurrentPeriodCache cache;
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new CaffeineCurrentPeriodCache(100, Duration.ofMinutes(10), meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void pollingHitsCacheIncludingNoActivePeriod() {
+		assertThat(cache.get("student-1", this::load)).isPresent();
+		assertThat(cache.get("student-1", this::load)).isPresent();
+		assertThat(cache.get("student-2", id -> { loads.incrementAndGet(); return Optional.empty(); })).isEmpty();
+		assertThat(cache.get("student-2", this::load)).isEmpty();
+
+		assertThat(loads).hasValue(2);
+		assertThat(meterRegistry.get("cache.gets")
+				.tag("cache", CaffeineCurrentPeriodCache.CACHE_NAME)
+				.tag("result", "hit")
+				.functionCounter().count()).isEqualTo(2.0);
+	}
+
+	@Test
+	void evictionIsRepeatedAfterTransactionCompletes() {
+		TransactionSynchronizationManager.initSynchronization();
+		cache.get("student-1", this::load);
+
+		cache.evict("student-1");
+		// A concurrent read reloads the old value before the write commits
+		cache.get("student-1", this::load);
+		TransactionSynchronizationManager.getSynchronizations()
+				.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		cache.get("student-1", this::load);
+
+		assertThat(loads).hasValue(3);
+	}
+
+	private Optional<Period> load(String studentId) {
+		loads.incrementAndGet();
+		return Optional.of(Period.builder().id("period-1").studentId(studentId).isActive(true).build());
+	}
+}
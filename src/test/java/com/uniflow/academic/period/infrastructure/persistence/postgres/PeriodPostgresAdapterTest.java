@@ -0,0 +1,71 @@
+package com.uniflow.academic.period.infrastructure.persistence.postgres;
+
+import com.uniflow.academic.period.application.ports.out.dto.PeriodStatisticsResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PeriodPostgresAdapterTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 3, 15);
+
+	private PeriodJpaRepository jpaRepository;
+	private PeriodPostgresAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+		jpaRepository = mock(PeriodJpaRepository.class);
+		adapter = new PeriodPostgresAdapter(jpaRepository, new PeriodEntityMapper(), mock(NamedParameterJdbcTemplate.class));
+	}
+
+	@Test
+	void statisticsCombineTypeRows() {
+		List<PeriodTypeStatistics> rows = List.of(
+				row("first-semester", 3, 1, 1, 0, 2, 360),
+				row("summer", 1, 0, 0, 1, 0, 45)
+		);
+		when(jpaRepository.aggregateStatisticsByType("student-1", TODAY)).thenReturn(rows);
+
+		PeriodStatisticsResponse stats = adapter.getStatistics("student-1", TODAY);
+
+		assertThat(stats.getTotal()).isEqualTo(4);
+		assertThat(stats.getActive()).isEqualTo(1);
+		assertThat(stats.getCurrent()).isEqualTo(1);
+		assertThat(stats.getUpcoming()).isEqualTo(1);
+		assertThat(stats.getFinished()).isEqualTo(2);
+		assertThat(stats.getByType()).containsEntry("first-semester", 3L).containsEntry("summer", 1L);
+		assertThat(stats.getAverageDuration()).isEqualTo(101.25);
+	}
+
+	@Test
+	void statisticsForStudentWithoutPeriods() {
+		when(jpaRepository.aggregateStatisticsByType("student-1", TODAY)).thenReturn(List.of());
+
+		PeriodStatisticsResponse stats = adapter.getStatistics("student-1", TODAY);
+
+		assertThat(stats.getTotal()).isZero();
+		assertThat(stats.getByType()).isEmpty();
+		assertThat(stats.getAverageDuration()).isZero();
+	}
+
+	private static PeriodTypeStatistics row(
+			String type, long total, long active, long ongoing, long upcoming, long finished, long days
+	) {
+		PeriodTypeStatistics row = mock(PeriodTypeStatistics.class);
+		when(row.getType()).thenReturn(type);
+		when(row.getTotal()).thenReturn(total);
+		when(row.getActive()).thenReturn(active);
+		when(row.getOngoing()).thenReturn(ongoing);
+		when(row.getUpcoming()).thenReturn(upcoming);
+		when(row.getFinished()).thenReturn(finished);
+		when(row.getDays()).thenReturn(days);
+		return row;
+	}
+}
@@ -0,0 +1,128 @@
+package com.uniflow.academic.period.infrastructure.persistence.postgres;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uniflow.academic.period.application.ports.out.dto.PeriodStatisticsResponse;
+import com.uniflow.academic.period.domain.Period;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PeriodStatisticsPostgresAdapterTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 3, 15);
+
+	private PeriodStatisticsJpaRepository jpaRepository;
+	private PeriodStatisticsPostgresAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+		jpaRepository = mock(PeriodStatisticsJpaRepository.class);
+		adapter = new PeriodStatisticsPostgresAdapter(
+				jpaRepository, new ObjectMapper(), new TransactionTemplate(mock(PlatformTransactionManager.class)));
+	}
+
+	@Test
+	void countersResolveDatesAgainstToday() {
+		PeriodStatisticsEntity stats = mock(PeriodStatisticsEntity.class);
+		when(stats.getTotal()).thenReturn(4L);
+		when(stats.getActive()).thenReturn(1L);
+		when(stats.getByType()).thenReturn(Map.of("first-semester", 3L, "summer", 1L));
+		when(stats.getDateRanges()).thenReturn(Map.of(
+				"2025-01-10|2025-05-30", 1L,
+				"2024-01-15|2024-05-30", 2L,
+				"2025-06-01|2025-07-16", 1L
+		));
+		when(jpaRepository.findById("student-1")).thenReturn(Optional.of(stats));
+
+		PeriodStatisticsResponse response = adapter.find("student-1", TODAY).orElseThrow();
+
+		assertThat(response.getTotal()).isEqualTo(4);
+		assertThat(response.getActive()).isEqualTo(1);
+		assertThat(response.getCurrent()).isEqualTo(1);
+		assertThat(response.getUpcoming()).isEqualTo(1);
+		assertThat(response.getFinished()).isEqualTo(2);
+		assertThat(response.getByType()).containsEntry("first-semester", 3L).containsEntry("summer", 1L);
+		assertThat(response.getAverageDuration()).isEqualTo(114.25);
+	}
+
+	@Test
+	void createAddsOnePeriod() {
+		adapter.record(null, period(Period.PeriodType.SUMMER, LocalDate.of(2025, 6, 1)));
+
+		InOrder inOrder = inOrder(jpaRepository);
+		inOrder.verify(jpaRepository).lockStudent("student-1");
+		inOrder.verify(jpaRepository).applyDelta(
+				eq("student-1"), eq(1L), eq(0L),
+				eq("{\"summer\":1}"), eq("{\"2025-06-01|2025-07-16\":1}"), any()
+		);
+	}
+
+	@Test
+	void updateMovesCountsBetweenKeys() {
+		Period before = period(Period.PeriodType.FIRST_SEMESTER, LocalDate.of(2025, 6, 1));
+		Period after = period(Period.PeriodType.SUMMER, LocalDate.of(2025, 6, 1));
+
+		adapter.record(before, after);
+
+		verify(jpaRepository).applyDelta(
+				eq("student-1"), eq(0L), eq(0L),
+				eq("{\"first-semester\":-1,\"summer\":1}"), eq("{}"), any()
+		);
+	}
+
+	@Test
+	void renameDoesNotTouchCounters() {
+		Period before = period(Period.PeriodType.SUMMER, LocalDate.of(2025, 6, 1));
+
+		adapter.record(before, before.toBuilder().name("Verano").build());
+
+		verify(jpaRepository, never()).applyDelta(anyString(), anyLong(), anyLong(), anyString(), anyString(), any());
+	}
+
+	@Test
+	void rebuildLocksEachStudentBeforeOverwriting() {
+		when(jpaRepository.findStudentIds()).thenReturn(List.of("student-1", "student-2"));
+		when(jpaRepository.rebuild(eq("student-1"), any())).thenReturn(1);
+		when(jpaRepository.deleteOrphans("student-2")).thenReturn(1);
+
+		assertThat(adapter.rebuild()).isEqualTo(1);
+
+		InOrder inOrder = inOrder(jpaRepository);
+		for (String studentId : List.of("student-1", "student-2")) {
+			inOrder.verify(jpaRepository).lockStudent(studentId);
+			inOrder.verify(jpaRepository).rebuild(eq(studentId), any());
+			inOrder.verify(jpaRepository).deleteOrphans(studentId);
+		}
+	}
+
+	private static Period period(Period.PeriodType type, LocalDate start) {
+		return Period.builder()
+				.id("period-1")
+				.name("Summer")
+				.type(type)
+				.year(2025)
+				.startDate(start)
+				.endDate(start.plusDays(45))
+				.studentId("student-1")
+				.isActive(false)
+				.build();
+	}
+}
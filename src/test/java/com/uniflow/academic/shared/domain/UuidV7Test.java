@@ -0,0 +1,46 @@
+package com.uniflow.academic.shared.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+	@Test
+	void hasVersionSevenAndRfcVariant() {
+		UUID uuid = UuidV7.randomUuid();
+
+		assertThat(uuid.version()).isEqualTo(7);
+		assertThat(uuid.variant()).isEqualTo(2);
+	}
+
+	@Test
+	void encodesTimestampInLeadingBits() {
+		long millis = 1_735_689_600_123L;
+
+		assertThat(UuidV7.timestamp(UuidV7.at(millis))).isEqualTo(millis);
+	}
+
+	@Test
+	void laterIdsSortAfterEarlierOnes() {
+		// Postgres compara uuid byte a byte, igual que el orden de la forma texto
+		String earlier = UuidV7.at(1_735_689_600_000L).toString();
+		String later = UuidV7.at(1_735_689_600_001L).toString();
+
+		assertThat(later).isGreaterThan(earlier);
+	}
+
+	@Test
+	void idsInSameMillisecondAreDistinct() {
+		Set<UUID> ids = new HashSet<>();
+		for (int i = 0; i < 1_000; i++) {
+			ids.add(UuidV7.at(1_735_689_600_000L));
+		}
+
+		assertThat(ids).hasSize(1_000);
+	}
+}
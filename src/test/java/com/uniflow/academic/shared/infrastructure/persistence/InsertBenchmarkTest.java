@@ -0,0 +1,117 @@
+package com.uniflow.academic.shared.infrastructure.persistence;
+
+import com.uniflow.academic.period.infrastructure.persistence.postgres.PeriodEntity;
+import com.uniflow.academic.period.infrastructure.persistence.postgres.PeriodJpaRepository;
+import com.uniflow.academic.shared.domain.UuidV7;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara inserts con merge (SELECT previo por id asignado) contra
+ * persist de entidades Persistable con batching JDBC, sobre Postgres real
+ *
+ * mvn -B test -Pbenchmark  (requiere Postgres, ver PostgresTestDatabase)
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIf("com.uniflow.academic.shared.infrastructure.persistence.PostgresTestDatabase#available")
+class InsertBenchmarkTest {
+
+    private static final int WARMUP_ROWS = 500;
+    private static final int ROWS = 5_000;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, "reWriteBatchedInserts=true");
+    }
+
+    @Autowired
+    private PeriodJpaRepository jpaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void persistableInsertsVersusMerge() {
+        // Antes: save() sobre un id asignado hace merge, un SELECT por fila
+        Result merge = run("merge (before)", entity -> entity);
+        // Después: markNew() hace que save() llame a persist y Hibernate agrupe los INSERT
+        Result persist = run("persist + batch (after)", PeriodEntity::markNew);
+
+        System.out.println(merge);
+        System.out.println(persist);
+        assertThat(persist.statementsPerInsert()).isLessThan(merge.statementsPerInsert());
+    }
+
+    private Result run(String name, Function<PeriodEntity, PeriodEntity> prepare) {
+        insert(prepare, WARMUP_ROWS);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        insert(prepare, ROWS);
+        long elapsed = System.nanoTime() - start;
+
+        return new Result(
+                name,
+                (double) statistics.getPrepareStatementCount() / ROWS,
+                ROWS * 1e9 / elapsed
+        );
+    }
+
+    private void insert(Function<PeriodEntity, PeriodEntity> prepare, int rows) {
+        String studentId = UUID.randomUUID().toString();
+        List<PeriodEntity> entities = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            entities.add(prepare.apply(period(studentId, i)));
+        }
+        jpaRepository.saveAll(entities);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static PeriodEntity period(String studentId, int index) {
+        LocalDate start = LocalDate.of(2020, 1, 1).plusDays(index);
+        return PeriodEntity.builder()
+                .id(UuidV7.randomUuid())
+                .name("Periodo " + index)
+                .type("special")
+                .year(start.getYear())
+                .startDate(start)
+                .endDate(start.plusDays(30))
+                .studentId(studentId)
+                .isActive(false)
+                .build();
+    }
+
+    private record Result(String name, double statementsPerInsert, double insertsPerSecond) {
+
+        @Override
+        public String toString() {
+            return String.format("%-26s %7.4f prepared statements/row   %8.0f rows/s",
+                    name, statementsPerInsert, insertsPerSecond);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.uniflow.academic.shared.infrastructure.persistence;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Postgres real para los tests que no pueden correr sobre H2
+ *
+ * Con TEST_DB_URL (o -Dtest.db.url) usa esa base, por ejemplo
+ * jdbc:postgresql://localhost:5432/uniflow_test; si no, levanta un
+ * contenedor postgres:16-alpine cuando hay Docker
+ * Sin ninguno de los dos los tests se omiten
+ */
+public final class PostgresTestDatabase {
+
+    private static final String URL = setting("test.db.url", "TEST_DB_URL");
+    private static final String USER = setting("test.db.user", "TEST_DB_USER");
+    private static final String PASSWORD = setting("test.db.password", "TEST_DB_PASSWORD");
+
+    private static PostgreSQLContainer<?> container;
+
+    private PostgresTestDatabase() {
+    }
+
+    /**
+     * Condición para @EnabledIf
+     */
+    public static boolean available() {
+        return URL != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    /**
+     * Registra la conexión en el contexto de Spring
+     *
+     * @param urlParameters Parámetros JDBC extra, por ejemplo reWriteBatchedInserts=true
+     */
+    public static void register(DynamicPropertyRegistry registry, String urlParameters) {
+        if (URL != null) {
+            registry.add("spring.datasource.url", () -> withParameters(URL, urlParameters));
+            registry.add("spring.datasource.username", () -> USER != null ? USER : "postgres");
+            registry.add("spring.datasource.password", () -> PASSWORD != null ? PASSWORD : "");
+            return;
+        }
+        PostgreSQLContainer<?> postgres = container();
+        registry.add("spring.datasource.url", () -> withParameters(postgres.getJdbcUrl(), urlParameters));
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    private static synchronized PostgreSQLContainer<?> container() {
+        if (container == null) {
+            // Un contenedor por JVM, Ryuk lo elimina al terminar
+            container = new PostgreSQLContainer<>("postgres:16-alpine");
+            container.start();
+        }
+        return container;
+    }
+
+    private static String withParameters(String url, String parameters) {
+        if (parameters == null || parameters.isBlank()) {
+            return url;
+        }
+        return url + (url.contains("?") ? "&" : "?") + parameters;
+    }
+
+    private static String setting(String property, String env) {
+        String value = System.getProperty(property);
+        if (value == null || value.isBlank()) {
+            value = System.getenv(env);
+        }
+        return value == null || value.isBlank() ? null : value;
+    }
+}
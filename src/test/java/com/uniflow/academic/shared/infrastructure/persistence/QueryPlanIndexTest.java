@@ -0,0 +1,312 @@
+package com.uniflow.academic.shared.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uniflow.academic.period.infrastructure.persistence.postgres.PeriodJpaRepository;
+import com.uniflow.academic.subject.infrastructure.persistence.postgres.SubjectJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifica con EXPLAIN que cada consulta de los repositorios de periodos y
+ * materias use un índice sobre un volumen realista (4.000 estudiantes)
+ * Se capturan el SQL y los parámetros que envía Hibernate y se repiten
+ * bajo EXPLAIN, así se explica exactamente la sentencia del repositorio
+ *
+ * Requiere Postgres (ver PostgresTestDatabase); sin él la clase se omite
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIf("com.uniflow.academic.shared.infrastructure.persistence.PostgresTestDatabase#available")
+// Sin transacción de test: VACUUM no corre dentro de una y sin él no hay index-only scans
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class QueryPlanIndexTest {
+
+    private static final int STUDENTS = 4_000;
+    private static final String STUDENT = "student-42";
+
+    private static final Set<String> STUDENT_SUBJECT_INDEXES = Set.of(
+            "idx_subject_student_created_id",
+            "idx_subject_student_period_created_id",
+            "uk_subject_period_code"
+    );
+
+    private static boolean seeded;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, null);
+    }
+
+    @Autowired
+    private PeriodJpaRepository periodRepository;
+
+    @Autowired
+    private SubjectJpaRepository subjectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private UUID periodId;
+    private UUID subjectId;
+
+    @BeforeEach
+    void seed() {
+        if (!seeded) {
+            // Una base externa (TEST_DB_URL) puede traer datos de otra ejecución
+            jdbcTemplate.execute("TRUNCATE academic.subjects, academic.periods CASCADE");
+            // 4 periodos por estudiante, el último activo; 6 materias por periodo
+            jdbcTemplate.execute("""
+                    INSERT INTO academic.periods
+                        (id, name, type, year, start_date, end_date, student_id, is_active, created_at, updated_at)
+                    SELECT gen_random_uuid(), 'Periodo ' || p,
+                           (ARRAY['first-semester', 'second-semester', 'summer', 'special'])[p],
+                           2020 + p, DATE '2020-01-01' + p * 120, DATE '2020-01-01' + p * 120 + 90,
+                           'student-' || s, p = 4, now(), now()
+                    FROM generate_series(1, %d) s, generate_series(1, 4) p
+                    """.formatted(STUDENTS));
+            jdbcTemplate.execute("""
+                    INSERT INTO academic.subjects
+                        (id, name, code, professor, credits, color, period_id, student_id, schedule, created_at, updated_at)
+                    SELECT gen_random_uuid(), 'Materia ' || n, 'MA-' || n, 'Profesor ' || n % 7, 1 + n % 4, '#336699',
+                           p.id, p.student_id, '[]'::jsonb, now() - n * INTERVAL '1 day', now()
+                    FROM academic.periods p, generate_series(1, 6) n
+                    """);
+            jdbcTemplate.execute("VACUUM ANALYZE academic.periods");
+            jdbcTemplate.execute("VACUUM ANALYZE academic.subjects");
+            seeded = true;
+        }
+        periodId = jdbcTemplate.queryForObject(
+                "SELECT id FROM academic.periods WHERE student_id = ? AND is_active", UUID.class, STUDENT);
+        subjectId = jdbcTemplate.queryForObject(
+                "SELECT id FROM academic.subjects WHERE period_id = ? LIMIT 1", UUID.class, periodId);
+    }
+
+    @Test
+    void periodQueriesUseIndexes() {
+        Set<String> keyset = Set.of("idx_period_student_start_id");
+        Set<String> active = Set.of("uq_period_one_active_per_student");
+        Pageable window = PageRequest.ofSize(11);
+        LocalDate after = LocalDate.of(2021, 1, 1);
+
+        assertUsesIndex("period.findByIdAndStudentId",
+                () -> periodRepository.findByIdAndStudentId(periodId, STUDENT), Set.of("periods_pkey"));
+        // EXISTS solo lee student_id e id: vale la PK o un index-only scan del índice keyset
+        assertUsesIndex("period.existsByIdAndStudentId",
+                () -> periodRepository.existsByIdAndStudentId(periodId, STUDENT),
+                Set.of("periods_pkey", "idx_period_student_start_id"));
+        assertUsesIndex("period.findAllWithFilters (no filters)",
+                () -> periodRepository.findAllWithFilters(STUDENT, null, null, null, PageRequest.of(0, 10)), keyset);
+        assertUsesIndex("period.findAllWithFilters (type, year, active)",
+                () -> periodRepository.findAllWithFilters(STUDENT, "summer", 2023, false, PageRequest.of(0, 10)),
+                keyset);
+        assertUsesIndex("period.findFirstKeysetPage",
+                () -> periodRepository.findFirstKeysetPage(STUDENT, null, null, null, window), keyset);
+        assertUsesIndex("period.findKeysetPageAfter",
+                () -> periodRepository.findKeysetPageAfter(STUDENT, null, null, null, after, periodId, window), keyset);
+        assertUsesIndex("period.aggregateStatisticsByType",
+                () -> periodRepository.aggregateStatisticsByType(STUDENT, after), keyset);
+        assertUsesIndex("period.findActiveByStudentId",
+                () -> periodRepository.findActiveByStudentId(STUDENT), active);
+        assertUsesIndex("period.findAllActiveByStudentId",
+                () -> periodRepository.findAllActiveByStudentId(STUDENT), active);
+    }
+
+    @Test
+    void subjectQueriesUseIndexes() {
+        Set<String> byCode = Set.of("uk_subject_period_code");
+        Pageable window = PageRequest.ofSize(21);
+
+        assertUsesIndex("subject.findByIdAndStudentId",
+                () -> subjectRepository.findByIdAndStudentId(subjectId, STUDENT), Set.of("subjects_pkey"));
+        assertUsesIndex("subject.findFirstKeysetPage (no filters)",
+                () -> subjectRepository.findFirstKeysetPage(STUDENT, null, null, null, window),
+                STUDENT_SUBJECT_INDEXES);
+        assertUsesIndex("subject.findFirstKeysetPage (period, professor, credits)",
+                () -> subjectRepository.findFirstKeysetPage(STUDENT, periodId, "profesor", 2, window),
+                STUDENT_SUBJECT_INDEXES);
+        assertUsesIndex("subject.findKeysetPageAfter",
+                () -> subjectRepository.findKeysetPageAfter(
+                        STUDENT, null, null, null, LocalDateTime.now(), subjectId, window),
+                STUDENT_SUBJECT_INDEXES);
+        assertUsesIndex("subject.findByStudentIdAndPeriodId",
+                () -> subjectRepository.findByStudentIdAndPeriodId(STUDENT, periodId),
+                Set.of("idx_subject_student_period_created_id", "uk_subject_period_code"));
+        assertUsesIndex("subject.existsByStudentIdAndPeriodIdAndCodeIgnoreCase",
+                () -> subjectRepository.existsByStudentIdAndPeriodIdAndCodeIgnoreCase(STUDENT, periodId, "ma-3"),
+                byCode);
+        assertUsesIndex("subject.existsByStudentIdAndPeriodIdAndCodeIgnoreCaseAndIdNot",
+                () -> subjectRepository.existsByStudentIdAndPeriodIdAndCodeIgnoreCaseAndIdNot(
+                        STUDENT, periodId, "MA-3", subjectId),
+                byCode);
+        // Con pocas materias por periodo el planner recorre el periodo y filtra los códigos
+        assertUsesIndex("subject.findExistingCodes",
+                () -> subjectRepository.findExistingCodes(STUDENT, periodId, new String[]{"ma-1", "ma-9"}),
+                Set.of("uk_subject_period_code", "idx_subject_student_period_created_id"));
+        assertUsesIndex("subject.aggregateStatistics",
+                () -> subjectRepository.aggregateStatistics(STUDENT), STUDENT_SUBJECT_INDEXES);
+    }
+
+    private void assertUsesIndex(String name, Runnable query, Set<String> expectedIndexes) {
+        CapturedSql.STATEMENTS.clear();
+        query.run();
+        List<CapturedSql.Statement> statements = List.copyOf(CapturedSql.STATEMENTS);
+        assertThat(statements).isNotEmpty();
+
+        for (CapturedSql.Statement statement : statements) {
+            List<JsonNode> nodes = new ArrayList<>();
+            collect(explain(statement).get(0).get("Plan"), nodes);
+            System.out.printf("%-58s %s%n", name, describe(nodes));
+
+            assertThat(nodes)
+                    .as("Seq Scan en:%n%s", statement.sql())
+                    .noneMatch(node -> "Seq Scan".equals(node.path("Node Type").asText()));
+            assertThat(nodes)
+                    .as("Índice esperado %s en:%n%s", expectedIndexes, statement.sql())
+                    .anyMatch(node -> node.path("Node Type").asText().contains("Index")
+                            && expectedIndexes.contains(node.path("Index Name").asText()));
+        }
+    }
+
+    private JsonNode explain(CapturedSql.Statement statement) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + statement.sql())) {
+            // Mismos setters y valores que usó Hibernate
+            for (CapturedSql.Binding binding : statement.bindings()) {
+                binding.method().invoke(explain, binding.args());
+            }
+            try (ResultSet plan = explain.executeQuery()) {
+                plan.next();
+                return objectMapper.readTree(plan.getString(1));
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("No se pudo explicar: " + statement.sql(), e);
+        }
+    }
+
+    private static String describe(List<JsonNode> nodes) {
+        return nodes.stream()
+                .map(node -> node.path("Node Type").asText()
+                        + (node.has("Index Name") ? " using " + node.path("Index Name").asText() : ""))
+                .collect(Collectors.joining(" -> "));
+    }
+
+    private static void collect(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        for (JsonNode child : node.path("Plans")) {
+            collect(child, nodes);
+        }
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource target ? CapturedSql.wrap(target) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Registra cada PreparedStatement con sus parámetros
+     */
+    static final class CapturedSql {
+
+        static final List<Statement> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        record Statement(String sql, List<Binding> bindings) {
+        }
+
+        record Binding(Method method, Object[] args) {
+        }
+
+        private CapturedSql() {
+        }
+
+        static DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, (proxy, method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                return result instanceof Connection connection ? wrap(connection) : result;
+            });
+        }
+
+        private static Connection wrap(Connection connection) {
+            return proxy(Connection.class, (proxy, method, args) -> {
+                Object result = invoke(connection, method, args);
+                if (result instanceof PreparedStatement prepared && "prepareStatement".equals(method.getName())) {
+                    Statement statement = new Statement((String) args[0], new CopyOnWriteArrayList<>());
+                    STATEMENTS.add(statement);
+                    return wrap(prepared, statement);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement wrap(PreparedStatement prepared, Statement statement) {
+            return proxy(PreparedStatement.class, (proxy, method, args) -> {
+                // setString(1, ...), setNull(2, Types.VARCHAR), setObject(3, uuid)...
+                if (method.getName().startsWith("set") && args != null && args.length >= 2
+                        && args[0] instanceof Integer) {
+                    statement.bindings().add(new Binding(method, args));
+                }
+                return invoke(prepared, method, args);
+            });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.uniflow.academic.shared.infrastructure.persistence;
+
+import com.uniflow.academic.period.application.ports.in.CreatePeriodCommand;
+import com.uniflow.academic.period.application.ports.in.CreatePeriodCommand.CreatePeriodRequest;
+import com.uniflow.academic.period.application.ports.in.UpdatePeriodCommand;
+import com.uniflow.academic.period.application.ports.out.dto.UpdatePeriodRequest;
+import com.uniflow.academic.period.infrastructure.persistence.postgres.PeriodStatisticsJpaRepository;
+import com.uniflow.academic.subject.application.ports.in.CreateSubjectCommand;
+import com.uniflow.academic.subject.application.ports.in.CreateSubjectCommand.CreateSubjectRequest;
+import com.uniflow.academic.subject.application.ports.in.UpdateSubjectCommand;
+import com.uniflow.academic.subject.application.ports.in.UpdateSubjectCommand.UpdateSubjectRequest;
+import com.uniflow.academic.subject.infrastructure.persistence.postgres.SubjectStatisticsJpaRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Actualizaciones concurrentes de un mismo periodo y una misma materia:
+ * los contadores deben coincidir con un recálculo completo desde las tablas
+ *
+ * Requiere Postgres (ver PostgresTestDatabase); sin él la clase se omite
+ */
+@SpringBootTest
+@EnabledIf("com.uniflow.academic.shared.infrastructure.persistence.PostgresTestDatabase#available")
+class StatisticsConcurrentUpdateTest {
+
+    private static final int WRITERS = 8;
+    private static final int ROUNDS = 20;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        PostgresTestDatabase.register(registry, null);
+    }
+
+    @Autowired
+    private CreatePeriodCommand createPeriodCommand;
+
+    @Autowired
+    private UpdatePeriodCommand updatePeriodCommand;
+
+    @Autowired
+    private CreateSubjectCommand createSubjectCommand;
+
+    @Autowired
+    private UpdateSubjectCommand updateSubjectCommand;
+
+    @Autowired
+    private PeriodStatisticsJpaRepository periodStatisticsRepository;
+
+    @Autowired
+    private SubjectStatisticsJpaRepository subjectStatisticsRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentPeriodUpdatesKeepCountersExact() throws Exception {
+        String studentId = UUID.randomUUID().toString();
+        String periodId = createPeriodCommand.execute(new CreatePeriodRequest(
+                "Periodo", "summer", 2025, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 7, 15)), studentId).getId();
+
+        runConcurrently(writer -> updatePeriodCommand.execute(periodId, UpdatePeriodRequest.builder()
+                .type(writer % 2 == 0 ? "special" : "summer")
+                .startDate(LocalDate.of(2025, 6, 1 + writer))
+                .build(), studentId));
+
+        Map<String, Object> counters = periodCounters(studentId);
+        transactionTemplate.executeWithoutResult(status -> {
+            periodStatisticsRepository.lockStudent(studentId);
+            periodStatisticsRepository.rebuild(studentId, LocalDateTime.now());
+        });
+        assertThat(counters).isEqualTo(periodCounters(studentId));
+        assertThat(counters).containsEntry("total", 1L);
+    }
+
+    @Test
+    void concurrentSubjectUpdatesKeepCountersExact() throws Exception {
+        String studentId = UUID.randomUUID().toString();
+        String periodId = createPeriodCommand.execute(new CreatePeriodRequest(
+                "Periodo", "summer", 2025, LocalDate.of(2025, 6, 1), LocalDate.of(2025, 7, 15)), studentId).getId();
+        String subjectId = createSubjectCommand.execute(new CreateSubjectRequest(
+                "Física", "FIS101", "Ana Ruiz", 4, "#336699", periodId, null, List.of()), studentId).getId();
+
+        runConcurrently(writer -> updateSubjectCommand.execute(subjectId, new UpdateSubjectRequest(
+                "Física", "FIS101", "Profesor " + writer, 1 + writer % 4, "#336699", null, List.of()), studentId));
+
+        Map<String, Object> counters = subjectCounters(studentId);
+        transactionTemplate.executeWithoutResult(status -> {
+            subjectStatisticsRepository.lockStudent(studentId);
+            subjectStatisticsRepository.rebuild(studentId, LocalDateTime.now());
+        });
+        assertThat(counters).isEqualTo(subjectCounters(studentId));
+        assertThat(counters).containsEntry("total", 1L);
+    }
+
+    /**
+     * WRITERS hilos, ROUNDS rondas; cada ronda arranca a la vez tras una barrera
+     */
+    private void runConcurrently(WriterAction action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CyclicBarrier barrier = new CyclicBarrier(WRITERS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int writer = 0; writer < WRITERS; writer++) {
+                int id = writer;
+                futures.add(executor.submit(() -> {
+                    for (int round = 0; round < ROUNDS; round++) {
+                        barrier.await(10, TimeUnit.SECONDS);
+                        action.update(id);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Map<String, Object> periodCounters(String studentId) {
+        return jdbcTemplate.queryForMap("""
+                SELECT total, active, by_type::text AS by_type, date_ranges::text AS date_ranges
+                FROM academic.student_period_stats WHERE student_id = ?
+                """, studentId);
+    }
+
+    private Map<String, Object> subjectCounters(String studentId) {
+        return jdbcTemplate.queryForMap("""
+                SELECT total, total_credits, by_professor::text AS by_professor,
+                       by_credits::text AS by_credits, by_period::text AS by_period
+                FROM academic.student_subject_stats WHERE student_id = ?
+                """, studentId);
+    }
+
+    @FunctionalInterface
+    private interface WriterAction {
+        void update(int writer) throws Exception;
+    }
+}
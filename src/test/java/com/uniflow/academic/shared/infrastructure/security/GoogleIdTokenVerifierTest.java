@@ -0,0 +1,84 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GoogleIdTokenVerifierTest {
+
+	private static final String CLIENT_ID = "uniflow-web.apps.googleusercontent.com";
+
+	private RSAKey signingKey;
+	private GoogleIdTokenVerifier verifier;
+
+	@BeforeEach
+	void setUp() throws JOSEException {
+		signingKey = new RSAKeyGenerator(2048).keyID("test-key").generate();
+
+		GoogleAuthProperties properties = new GoogleAuthProperties();
+		properties.setClientIds(List.of(CLIENT_ID));
+
+		verifier = new GoogleIdTokenVerifier(
+				new ImmutableJWKSet<>(new JWKSet(signingKey.toPublicJWK())),
+				properties
+		);
+	}
+
+	@Test
+	void acceptsTokenSignedByKnownKey() throws JOSEException {
+		String token = sign(claims("https://accounts.google.com", CLIENT_ID, Instant.now().plusSeconds(600)));
+
+		assertThat(verifier.supports(token)).isTrue();
+		assertThat(verifier.verify(token)).containsEntry("sub", "google-123");
+	}
+
+	@Test
+	void rejectsWrongAudienceIssuerOrExpiredToken() throws JOSEException {
+		Instant future = Instant.now().plusSeconds(600);
+
+		assertThat(verifier.verify(sign(claims("accounts.google.com", "other-client", future)))).isNull();
+		assertThat(verifier.verify(sign(claims("https://evil.example.com", CLIENT_ID, future)))).isNull();
+		assertThat(verifier.verify(sign(claims("accounts.google.com", CLIENT_ID,
+				Instant.now().minusSeconds(600))))).isNull();
+	}
+
+	@Test
+	void opaqueAccessTokensAreNotSupported() {
+		assertThat(verifier.supports("ya29.a0AfH6SMDXopaque")).isFalse();
+	}
+
+	private JWTClaimsSet claims(String issuer, String audience, Instant expiresAt) {
+		return new JWTClaimsSet.Builder()
+				.subject("google-123")
+				.issuer(issuer)
+				.audience(audience)
+				.claim("email", "student@example.com")
+				.issueTime(Date.from(expiresAt.minusSeconds(3600)))
+				.expirationTime(Date.from(expiresAt))
+				.build();
+	}
+
+	private String sign(JWTClaimsSet claims) throws JOSEException {
+		SignedJWT jwt = new SignedJWT(
+				new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(),
+				claims
+		);
+		jwt.sign(new RSASSASigner(signingKey));
+		return jwt.serialize();
+	}
+}
@@ -0,0 +1,133 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GoogleTokenAuthenticationFilterTest {
+
+	private static final int MAX_FAILURES = 3;
+
+	private GoogleTokenValidator validator;
+	private GoogleTokenAuthenticationFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		GoogleAuthProperties properties = new GoogleAuthProperties();
+		properties.getFailureThrottle().setMaxFailures(MAX_FAILURES);
+
+		validator = mock(GoogleTokenValidator.class);
+		when(validator.validateToken("dead")).thenReturn(null);
+		filter = new GoogleTokenAuthenticationFilter(
+				validator,
+				new AuthFailureThrottle(properties, new SimpleMeterRegistry())
+		);
+	}
+
+	@AfterEach
+	void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void authenticatesValidToken() throws Exception {
+		when(validator.validateToken("good")).thenReturn(Map.of("sub", "google-123", "email", "student@example.com"));
+
+		MockHttpServletResponse response = send("good");
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("google-123");
+	}
+
+	@Test
+	void invalidTokenGetsJsonUnauthorized() throws Exception {
+		MockHttpServletResponse response = send("dead");
+
+		assertThat(response.getStatus()).isEqualTo(401);
+		assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+		JsonNode body = new ObjectMapper().readTree(response.getContentAsString());
+		assertThat(body.get("status").asInt()).isEqualTo(401);
+		assertThat(body.get("error").asText()).isEqualTo("Unauthorized");
+		assertThat(body.get("message").asText()).isEqualTo("Invalid or expired Google token");
+		assertThat(body.get("timestamp").asText()).isNotBlank();
+	}
+
+	@Test
+	void throttledIpIsRefusedBeforeValidation() throws Exception {
+		for (int i = 0; i < MAX_FAILURES; i++) {
+			assertThat(send("dead").getStatus()).isEqualTo(401);
+		}
+
+		MockHttpServletResponse throttled = send("fresh");
+
+		assertThat(throttled.getStatus()).isEqualTo(429);
+		assertThat(throttled.getHeader("Retry-After")).isEqualTo("60");
+		verify(validator, times(MAX_FAILURES)).validateToken(anyString());
+	}
+
+	@Test
+	void cachedTokenIsAcceptedFromThrottledIp() throws Exception {
+		when(validator.isCached("good")).thenReturn(true);
+		when(validator.validateToken("good")).thenReturn(Map.of("sub", "google-123", "email", "student@example.com"));
+		for (int i = 0; i < MAX_FAILURES; i++) {
+			send("dead");
+		}
+
+		MockHttpServletResponse response = send("good");
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("google-123");
+	}
+
+	@Test
+	void forwardedHeaderDoesNotChangeThrottledIp() throws Exception {
+		for (int i = 0; i < MAX_FAILURES; i++) {
+			send("dead");
+		}
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/periods");
+		request.setRemoteAddr("203.0.113.7");
+		request.addHeader("X-Forwarded-For", "198.51.100.1");
+		request.addHeader("Authorization", "Bearer dead");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+
+		assertThat(response.getStatus()).isEqualTo(429);
+	}
+
+	@Test
+	void unavailableTokenInfoIsNotCountedAsFailure() throws Exception {
+		when(validator.validateToken("unchecked"))
+				.thenThrow(new TokenInfoUnavailableException("tokeninfo responded with status 503"));
+		for (int i = 0; i <= MAX_FAILURES; i++) {
+			assertThat(send("unchecked").getStatus()).isEqualTo(401);
+		}
+
+		assertThat(send("dead").getStatus()).isEqualTo(401);
+	}
+
+	private MockHttpServletResponse send(String token) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/periods");
+		request.setRemoteAddr("203.0.113.7");
+		request.addHeader("Authorization", "Bearer " + token);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		return response;
+	}
+}
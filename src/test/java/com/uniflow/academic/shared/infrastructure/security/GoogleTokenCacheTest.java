@@ -0,0 +1,50 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GoogleTokenCacheTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private GoogleTokenCache cache;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new GoogleTokenCache(new GoogleAuthProperties(), meterRegistry);
+	}
+
+	@Test
+	void returnsCachedTokenInfoUntilTokenExpires() {
+		String exp = String.valueOf(Instant.now().plusSeconds(3600).getEpochSecond());
+		cache.put("token-a", Map.of("sub", "123", "exp", exp));
+
+		assertThat(cache.get("token-a")).containsEntry("sub", "123");
+		assertThat(cache.get("token-b")).isNull();
+		assertThat(meterRegistry.get("cache.gets")
+				.tag("cache", GoogleTokenCache.CACHE_NAME)
+				.tag("result", "hit")
+				.functionCounter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void doesNotCacheExpiredTokens() {
+		String exp = String.valueOf(Instant.now().minusSeconds(5).getEpochSecond());
+		cache.put("expired", Map.of("sub", "123", "exp", exp));
+
+		assertThat(cache.get("expired")).isNull();
+	}
+
+	@Test
+	void keysAreHashedTokens() {
+		assertThat(GoogleTokenCache.hash("ya29.secret"))
+				.isNotEqualTo("ya29.secret")
+				.isEqualTo(GoogleTokenCache.hash("ya29.secret"));
+	}
+}
@@ -0,0 +1,155 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara el RestTemplate anterior (JDK HttpURLConnection + URL concatenada)
+ * con GoogleTokenInfoClient contra un tokeninfo local
+ *
+ * mvn -B test -Pbenchmark
+ */
+@Tag("benchmark")
+class GoogleTokenInfoClientBenchmarkTest {
+
+	private static final int THREADS = 16;
+	private static final int WARMUP_CALLS = 500;
+	private static final int CALLS = 5_000;
+	private static final byte[] TOKEN_INFO = ("{\"sub\":\"google-123\",\"email\":\"student@example.com\","
+			+ "\"aud\":\"uniflow-web\",\"expires_in\":\"3599\"}").getBytes(StandardCharsets.UTF_8);
+
+	private HttpServer server;
+	private String tokenInfoUrl;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		// Sin TCP_NODELAY el stub agrega ~40 ms de delayed ACK a cada respuesta
+		System.setProperty("sun.net.httpserver.nodelay", "true");
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+		server.setExecutor(Executors.newFixedThreadPool(THREADS));
+		server.createContext("/tokeninfo", this::handle);
+		server.start();
+		tokenInfoUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/tokeninfo";
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	void pooledClientVersusRestTemplate() throws Exception {
+		RestTemplate restTemplate = new RestTemplate(new SimpleClientHttpRequestFactory());
+		Result baseline = run("RestTemplate (JDK)", token ->
+				restTemplate.getForObject(tokenInfoUrl + "?access_token=" + token, Map.class));
+
+		GoogleAuthProperties properties = new GoogleAuthProperties();
+		properties.getTokenInfo().setUri(tokenInfoUrl);
+		properties.getTokenInfo().setMaxConnectionsPerRoute(THREADS);
+		GoogleTokenInfoClient client = new GoogleTokenInfoClient(
+				properties, new ObjectMapper(), new SimpleMeterRegistry());
+		Result pooled;
+		try {
+			pooled = run("GoogleTokenInfoClient", client::fetch);
+		} finally {
+			client.destroy();
+		}
+
+		System.out.println(baseline);
+		System.out.println(pooled);
+		assertThat(pooled.errors()).isZero();
+	}
+
+	private Result run(String name, Function<String, Map<?, ?>> call) throws Exception {
+		execute(call, WARMUP_CALLS);
+
+		long start = System.nanoTime();
+		long[] latencies = execute(call, CALLS);
+		long elapsed = System.nanoTime() - start;
+
+		Arrays.sort(latencies);
+		long errors = Arrays.stream(latencies).filter(latency -> latency < 0).count();
+		return new Result(name, CALLS * 1e9 / elapsed,
+				percentile(latencies, 0.50), percentile(latencies, 0.99), errors);
+	}
+
+	private long[] execute(Function<String, Map<?, ?>> call, int calls) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<long[]>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				futures.add(executor.submit(() -> {
+					long[] latencies = new long[calls / THREADS];
+					for (int i = 0; i < latencies.length; i++) {
+						long start = System.nanoTime();
+						try {
+							call.apply("ya29.benchmark-token-" + i);
+							latencies[i] = System.nanoTime() - start;
+						} catch (RuntimeException e) {
+							latencies[i] = -1;
+						}
+					}
+					return latencies;
+				}));
+			}
+			long[] all = new long[0];
+			for (Future<long[]> future : futures) {
+				long[] part = future.get();
+				long[] merged = Arrays.copyOf(all, all.length + part.length);
+				System.arraycopy(part, 0, merged, all.length, part.length);
+				all = merged;
+			}
+			return all;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static double percentile(long[] sorted, double p) {
+		long[] valid = Arrays.stream(sorted).filter(latency -> latency >= 0).toArray();
+		if (valid.length == 0) {
+			return Double.NaN;
+		}
+		return valid[(int) Math.min(valid.length - 1, Math.ceil(p * valid.length) - 1)] / 1e6;
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, TOKEN_INFO.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(TOKEN_INFO);
+		}
+	}
+
+	private record Result(String name, double throughput, double p50Millis, double p99Millis, long errors) {
+
+		@Override
+		public String toString() {
+			return String.format("%-24s %10.0f req/s   p50 %6.3f ms   p99 %6.3f ms   errors %d",
+					name, throughput, p50Millis, p99Millis, errors);
+		}
+	}
+}
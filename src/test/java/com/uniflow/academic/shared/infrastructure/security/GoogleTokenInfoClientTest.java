@@ -0,0 +1,118 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GoogleTokenInfoClientTest {
+
+	private HttpServer server;
+	private SimpleMeterRegistry meterRegistry;
+	private GoogleTokenInfoClient client;
+	private final AtomicReference<String> lastQuery = new AtomicReference<>();
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.createContext("/tokeninfo", this::handle);
+		server.start();
+
+		GoogleAuthProperties properties = new GoogleAuthProperties();
+		properties.getTokenInfo().setUri("http://127.0.0.1:" + server.getAddress().getPort() + "/tokeninfo");
+		properties.getTokenInfo().setReadTimeout(Duration.ofSeconds(2));
+		properties.getTokenInfo().setTotalTimeout(Duration.ofMillis(300));
+
+		meterRegistry = new SimpleMeterRegistry();
+		client = new GoogleTokenInfoClient(properties, new ObjectMapper(), meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		client.destroy();
+		server.stop(0);
+	}
+
+	@Test
+	void returnsTokenInfoAndEncodesToken() {
+		assertThat(client.fetch("valid+token/=")).containsEntry("sub", "google-123");
+		assertThat(lastQuery.get()).isEqualTo("access_token=valid%2Btoken%2F%3D");
+		assertThat(meterRegistry.get("google.tokeninfo.call").tag("outcome", "valid").timer().count())
+				.isEqualTo(1);
+		assertThat(meterRegistry.get("google.tokeninfo.connection.acquire").timer().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	void rejectedTokenReturnsNull() {
+		assertThat(client.fetch("invalid")).isNull();
+	}
+
+	@Test
+	void serverErrorAndDeadlineAreUnavailable() {
+		assertThatThrownBy(() -> client.fetch("boom"))
+				.isInstanceOf(TokenInfoUnavailableException.class)
+				.hasMessageContaining("503");
+		assertThatThrownBy(() -> client.fetch("slow"))
+				.isInstanceOf(TokenInfoUnavailableException.class)
+				.hasMessageContaining("total timeout");
+	}
+
+	@Test
+	void serverErrorLeavesPooledConnectionUsable() {
+		for (int i = 0; i < 3; i++) {
+			assertThatThrownBy(() -> client.fetch("boom"))
+					.isInstanceOf(TokenInfoUnavailableException.class)
+					.hasMessageContaining("503");
+			assertThat(client.fetch("valid")).containsEntry("sub", "google-123");
+		}
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String query = exchange.getRequestURI().getRawQuery();
+		lastQuery.set(query);
+
+		if (query.endsWith("=slow")) {
+			sleep(1_000);
+		}
+		if (query.endsWith("=invalid")) {
+			respond(exchange, 400, "{\"error\":\"invalid_token\"}");
+		} else if (query.endsWith("=boom")) {
+			respond(exchange, 503, "{\"error\":\"backend\"}");
+		} else {
+			respond(exchange, 200, "{\"sub\":\"google-123\",\"email\":\"student@example.com\",\"expires_in\":\"3599\"}");
+		}
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
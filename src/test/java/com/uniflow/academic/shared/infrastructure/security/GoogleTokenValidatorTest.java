@@ -0,0 +1,100 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GoogleTokenValidatorTest {
+
+	private static final Map<String, Object> TOKEN_INFO = Map.of(
+			"sub", "google-123",
+			"email", "student@example.com",
+			"expires_in", "3599"
+	);
+
+	private GoogleTokenInfoClient tokenInfoClient;
+	private SimpleMeterRegistry meterRegistry;
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+	private GoogleTokenValidator validator;
+
+	@BeforeEach
+	void setUp() {
+		GoogleAuthProperties properties = new GoogleAuthProperties();
+		properties.getTokenCache().setMaxTtl(Duration.ofMillis(50));
+		properties.getTokenCache().setStaleGrace(Duration.ofMinutes(10));
+
+		tokenInfoClient = mock(GoogleTokenInfoClient.class);
+		meterRegistry = new SimpleMeterRegistry();
+		circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+
+		validator = new GoogleTokenValidator(
+				tokenInfoClient,
+				new GoogleTokenCache(properties, meterRegistry),
+				mock(GoogleIdTokenVerifier.class),
+				properties,
+				circuitBreakerRegistry,
+				BulkheadRegistry.ofDefaults(),
+				meterRegistry
+		);
+	}
+
+	@Test
+	void recentValidationIsAcceptedWhileTokenInfoIsDown() throws InterruptedException {
+		when(tokenInfoClient.fetch("recent"))
+				.thenReturn(TOKEN_INFO)
+				.thenThrow(new TokenInfoUnavailableException("tokeninfo responded with status 503"));
+
+		assertThat(validator.validateToken("recent")).containsEntry("sub", "google-123");
+		Thread.sleep(100);
+
+		assertThat(validator.validateToken("recent")).containsEntry("sub", "google-123");
+		assertThat(meterRegistry.counter("google.tokeninfo.stale").count()).isEqualTo(1);
+		verify(tokenInfoClient, times(2)).fetch("recent");
+	}
+
+	@Test
+	void openBreakerFailsFastWithoutCallingGoogle() {
+		circuitBreakerRegistry.circuitBreaker(GoogleTokenValidator.TOKENINFO_INSTANCE).transitionToOpenState();
+
+		assertThatThrownBy(() -> validator.validateToken("unknown"))
+				.isInstanceOf(TokenInfoUnavailableException.class);
+		verify(tokenInfoClient, never()).fetch("unknown");
+	}
+
+	@Test
+	void rejectedTokenIsNotSentToGoogleAgain() {
+		when(tokenInfoClient.fetch("invalid")).thenReturn(null);
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(validator.validateToken("invalid")).isNull();
+		}
+		verify(tokenInfoClient, times(1)).fetch("invalid");
+		assertThat(circuitBreakerRegistry.circuitBreaker(GoogleTokenValidator.TOKENINFO_INSTANCE).getState())
+				.isEqualTo(CircuitBreaker.State.CLOSED);
+	}
+
+	@Test
+	void unavailableTokenInfoIsNotCachedAsRejection() {
+		when(tokenInfoClient.fetch("unlucky"))
+				.thenThrow(new TokenInfoUnavailableException("tokeninfo request failed"))
+				.thenReturn(TOKEN_INFO);
+
+		assertThatThrownBy(() -> validator.validateToken("unlucky"))
+				.isInstanceOf(TokenInfoUnavailableException.class);
+		assertThat(validator.validateToken("unlucky")).containsEntry("sub", "google-123");
+	}
+}
@@ -0,0 +1,116 @@
+package com.uniflow.academic.shared.infrastructure.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+	private static final int CALLERS = 8;
+
+	private Counter coalesced;
+	private SingleFlight<String, String> singleFlight;
+	private ExecutorService executor;
+
+	@BeforeEach
+	void setUp() {
+		coalesced = new SimpleMeterRegistry().counter("coalesced");
+		singleFlight = new SingleFlight<>(coalesced);
+		executor = Executors.newFixedThreadPool(CALLERS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void concurrentCallersShareOneCall() throws Exception {
+		AtomicInteger calls = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		List<Future<String>> results = submitAll(() -> singleFlight.execute("token", () -> {
+			calls.incrementAndGet();
+			await(release);
+			return "google-123";
+		}));
+
+		waitUntilAllJoined();
+		release.countDown();
+
+		for (Future<String> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("google-123");
+		}
+		assertThat(calls).hasValue(1);
+		assertThat(coalesced.count()).isEqualTo(CALLERS - 1);
+		assertThat(singleFlight.inFlightCount()).isZero();
+	}
+
+	@Test
+	void failureIsPropagatedToEveryCaller() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+
+		List<Future<String>> results = submitAll(() -> singleFlight.execute("token", () -> {
+			await(release);
+			throw new IllegalStateException("tokeninfo unavailable");
+		}));
+
+		waitUntilAllJoined();
+		release.countDown();
+
+		for (Future<String> result : results) {
+			assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+					.hasCauseInstanceOf(IllegalStateException.class)
+					.hasRootCauseMessage("tokeninfo unavailable");
+		}
+	}
+
+	@Test
+	void completedCallIsNotReused() {
+		AtomicInteger calls = new AtomicInteger();
+
+		singleFlight.execute("token", () -> String.valueOf(calls.incrementAndGet()));
+		singleFlight.execute("token", () -> String.valueOf(calls.incrementAndGet()));
+
+		assertThat(calls).hasValue(2);
+		assertThat(coalesced.count()).isZero();
+	}
+
+	private List<Future<String>> submitAll(Callable<String> task) {
+		List<Future<String>> results = new ArrayList<>();
+		for (int i = 0; i < CALLERS; i++) {
+			results.add(executor.submit(task));
+		}
+		return results;
+	}
+
+	private void waitUntilAllJoined() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (coalesced.count() < CALLERS - 1 && System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package com.uniflow.academic.subject.application.services;
+
+import com.uniflow.academic.period.application.ports.out.PeriodRepository;
+import com.uniflow.academic.subject.application.ports.in.CreateSubjectCommand.CreateSubjectRequest;
+import com.uniflow.academic.subject.application.ports.out.PeriodScheduleCache;
+import com.uniflow.academic.subject.application.ports.out.SubjectRepository;
+import com.uniflow.academic.subject.application.ports.out.SubjectSearchIndex;
+import com.uniflow.academic.subject.application.ports.out.SubjectStatisticsStore;
+import com.uniflow.academic.subject.domain.PeriodSchedule;
+import com.uniflow.academic.subject.domain.Subject;
+import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
+import com.uniflow.academic.subject.domain.exception.ScheduleConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CreateSubjectServiceTest {
+
+    private SubjectRepository subjectRepository;
+    private PeriodRepository periodRepository;
+    private CreateSubjectService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        subjectRepository = mock(SubjectRepository.class);
+        periodRepository = mock(PeriodRepository.class);
+        PeriodScheduleCache scheduleCache = mock(PeriodScheduleCache.class);
+        when(scheduleCache.get(any(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<PeriodSchedule>) invocation.getArgument(2)).get());
+
+        service = new CreateSubjectService(
+                subjectRepository,
+                periodRepository,
+                mock(SubjectSearchIndex.class),
+                mock(SubjectStatisticsStore.class),
+                new PeriodScheduleLoader(subjectRepository, scheduleCache),
+                mock(SubjectCodeRegistry.class)
+        );
+
+        when(periodRepository.existsByIdAndStudentId("period-1", "student-1")).thenReturn(true);
+        when(subjectRepository.findByPeriodId("period-1", "student-1"))
+                .thenReturn(List.of(subject("MAT101", List.of("Lunes 9:00-10:50"))));
+        when(subjectRepository.insertIfAbsent(any())).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
+    }
+
+    @Test
+    void freeFormEntriesAreStoredAndSkippedByConflictCheck() {
+        Subject saved = service.execute(request("period-1", List.of("Martes 8:00-9:50", "Por definir")), "student-1");
+
+        assertThat(saved.getSchedule()).containsExactly("Martes 8:00-9:50", "Por definir");
+    }
+
+    @Test
+    void overlappingEntryIsStillRejected() {
+        assertThatThrownBy(() -> service.execute(
+                request("period-1", List.of("Lun 10:00-11:00", "Por definir")), "student-1"))
+                .isInstanceOf(ScheduleConflictException.class);
+        verify(subjectRepository, never()).insertIfAbsent(any());
+    }
+
+    @Test
+    void foreignPeriodIsRejectedBeforeConflictCheck() {
+        assertThatThrownBy(() -> service.execute(request("period-2", List.of("Lunes 9:00-10:50")), "student-1"))
+                .isInstanceOf(InvalidSubjectException.class)
+                .hasMessageContaining("Period does not belong");
+        verify(subjectRepository, never()).findByPeriodId(any(), any());
+        verify(subjectRepository, never()).insertIfAbsent(any());
+    }
+
+    private static CreateSubjectRequest request(String periodId, List<String> schedule) {
+        return new CreateSubjectRequest("Física", "FIS101", "Ana Ruiz", 4, "#336699", periodId, null, schedule);
+    }
+
+    private static Subject subject(String code, List<String> schedule) {
+        return Subject.builder()
+                .id("subject-" + code)
+                .name(code)
+                .code(code)
+                .credits(4)
+                .periodId("period-1")
+                .studentId("student-1")
+                .schedule(schedule)
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.uniflow.academic.subject.application.services;
+
+import com.uniflow.academic.period.application.ports.out.PeriodRepository;
+import com.uniflow.academic.subject.application.ports.out.SubjectRepository;
+import com.uniflow.academic.subject.application.ports.out.dto.ValidateSubjectCodeResponse;
+import com.uniflow.academic.subject.domain.Subject;
+import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
+import com.uniflow.academic.subject.infrastructure.cache.CaffeinePeriodSubjectCodesCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ValidateSubjectCodeServiceTest {
+
+	private SubjectRepository subjectRepository;
+	private PeriodRepository periodRepository;
+	private SubjectCodeRegistry registry;
+	private ValidateSubjectCodeService service;
+
+	@BeforeEach
+	void setUp() {
+		subjectRepository = mock(SubjectRepository.class);
+		periodRepository = mock(PeriodRepository.class);
+		registry = new SubjectCodeRegistry(
+				subjectRepository,
+				periodRepository,
+				new CaffeinePeriodSubjectCodesCache(
+						100, Duration.ofMinutes(15), Duration.ofMinutes(10), new SimpleMeterRegistry())
+		);
+		service = new ValidateSubjectCodeService(registry);
+
+		List<Subject> subjects = List.of(subject("subject-1", "IC-5401"));
+		when(periodRepository.existsByIdAndStudentId("period-1", "student-1")).thenReturn(true);
+		when(subjectRepository.findByPeriodId("period-1", "student-1")).thenReturn(subjects);
+	}
+
+	@Test
+	void keystrokesAreAnsweredFromOneLoad() {
+		for (String code : List.of("I", "IC", "IC-", "IC-5", "IC-54", "IC-540", "ic-5401")) {
+			service.execute(code, "period-1", "student-1", null);
+		}
+
+		ValidateSubjectCodeResponse taken = service.execute("ic-5401", "period-1", "student-1", null);
+		assertThat(taken.isValid()).isTrue();
+		assertThat(taken.isAvailable()).isFalse();
+		assertThat(service.execute("IC-5402", "period-1", "student-1", null).isAvailable()).isTrue();
+		verify(periodRepository, times(1)).existsByIdAndStudentId(any(), any());
+		verify(subjectRepository, times(1)).findByPeriodId(any(), any());
+		verify(subjectRepository, never()).existsByCode(any(), any(), any(), any());
+	}
+
+	@Test
+	void subjectBeingUpdatedKeepsItsCode() {
+		assertThat(service.execute("IC-5401", "period-1", "student-1", "subject-1").isAvailable()).isTrue();
+	}
+
+	@Test
+	void writesReloadTheCodes() {
+		service.execute("IC-5401", "period-1", "student-1", null);
+		registry.evict(subject("subject-2", "IC-5402"));
+		List<Subject> subjects = List.of(subject("subject-1", "IC-5401"), subject("subject-2", "IC-5402"));
+		when(subjectRepository.findByPeriodId("period-1", "student-1")).thenReturn(subjects);
+
+		assertThat(service.execute("IC-5402", "period-1", "student-1", null).isAvailable()).isFalse();
+	}
+
+	@Test
+	void foreignPeriodIsRejectedAndNotCached() {
+		assertThatThrownBy(() -> service.execute("IC-5401", "period-2", "student-1", null))
+				.isInstanceOf(InvalidSubjectException.class);
+		assertThatThrownBy(() -> service.execute("IC-5401", "period-2", "student-1", null))
+				.isInstanceOf(InvalidSubjectException.class);
+		verify(periodRepository, times(2)).existsByIdAndStudentId("period-2", "student-1");
+	}
+
+	private static Subject subject(String id, String code) {
+		return Subject.builder()
+				.id(id)
+				.code(code)
+				.periodId("period-1")
+				.studentId("student-1")
+				.build();
+	}
+}
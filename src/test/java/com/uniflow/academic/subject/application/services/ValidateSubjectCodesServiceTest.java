@@ -0,0 +1,75 @@
+package com.uniflow.academic.subject.application.services;
+
+import com.uniflow.academic.period.application.ports.out.PeriodRepository;
+import com.uniflow.academic.subject.application.ports.in.ValidateSubjectCodesQuery;
+import com.uniflow.academic.subject.application.ports.out.SubjectRepository;
+import com.uniflow.academic.subject.application.ports.out.dto.ValidateSubjectCodeResponse;
+import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ValidateSubjectCodesServiceTest {
+
+	private SubjectRepository subjectRepository;
+	private PeriodRepository periodRepository;
+	private ValidateSubjectCodesService service;
+
+	@BeforeEach
+	void setUp() {
+		subjectRepository = mock(SubjectRepository.class);
+		periodRepository = mock(PeriodRepository.class);
+		service = new ValidateSubjectCodesService(subjectRepository, periodRepository);
+		when(periodRepository.existsByIdAndStudentId("period-1", "student-1")).thenReturn(true);
+	}
+
+	@Test
+	void validatesAllCodesWithOneQuery() {
+		when(subjectRepository.findExistingCodes(List.of("IC-5401", "MA-1102", "ma-1102"), "period-1", "student-1"))
+				.thenReturn(Set.of("ic-5401"));
+
+		List<ValidateSubjectCodeResponse> results = service.execute(
+				List.of("IC-5401", "not a code", "MA-1102", "ma-1102"),
+				"period-1",
+				"student-1"
+		);
+
+		assertThat(results).extracting(ValidateSubjectCodeResponse::getCode)
+				.containsExactly("IC-5401", "not a code", "MA-1102", "ma-1102");
+		assertThat(results).extracting(ValidateSubjectCodeResponse::isValid)
+				.containsExactly(true, false, true, true);
+		assertThat(results).extracting(ValidateSubjectCodeResponse::isAvailable)
+				.containsExactly(false, false, true, false);
+		assertThat(results.get(3).getMessage()).isEqualTo("Subject code is repeated in this request");
+		verify(subjectRepository, times(1)).findExistingCodes(any(), any(), any());
+		verify(subjectRepository, never()).existsByCode(any(), any(), any(), any());
+	}
+
+	@Test
+	void tooManyCodesAreRejected() {
+		List<String> codes = Collections.nCopies(ValidateSubjectCodesQuery.MAX_CODES + 1, "IC-5401");
+
+		assertThatThrownBy(() -> service.execute(codes, "period-1", "student-1"))
+				.isInstanceOf(InvalidSubjectException.class);
+		verify(subjectRepository, never()).findExistingCodes(any(), any(), any());
+	}
+
+	@Test
+	void foreignPeriodIsRejected() {
+		assertThatThrownBy(() -> service.execute(List.of("IC-5401"), "period-2", "student-1"))
+				.isInstanceOf(InvalidSubjectException.class);
+		verify(subjectRepository, never()).findExistingCodes(any(), any(), any());
+	}
+}
@@ -0,0 +1,68 @@
+package com.uniflow.academic.subject.domain;
+
+import com.uniflow.academic.subject.domain.exception.InvalidSubjectException;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WeeklyScheduleTest {
+
+	@Test
+	void parsesSpanishAndEnglishEntries() {
+		assertThat(ScheduleSlot.parse("Lunes 8:00-9:50"))
+				.isEqualTo(new ScheduleSlot(DayOfWeek.MONDAY, LocalTime.of(8, 0), LocalTime.of(9, 50)));
+		assertThat(ScheduleSlot.parse("miércoles 14:00 a 16:00").day()).isEqualTo(DayOfWeek.WEDNESDAY);
+		assertThat(ScheduleSlot.parse("Fri 18:30 - 24:00").endMinute()).isEqualTo(24 * 60);
+		assertThat(ScheduleSlot.tryParse("Lunes por la mañana")).isEmpty();
+		assertThatThrownBy(() -> ScheduleSlot.parse("Lunes 10:00-9:00")).isInstanceOf(InvalidSubjectException.class);
+	}
+
+	@Test
+	void backToBackClassesDoNotOverlap() {
+		WeeklySchedule first = WeeklySchedule.compile(List.of("Lunes 8:00-9:50"));
+		WeeklySchedule next = WeeklySchedule.compile(List.of("Lunes 9:50-11:40"));
+		WeeklySchedule otherDay = WeeklySchedule.compile(List.of("Martes 8:00-9:50"));
+		WeeklySchedule overlapping = WeeklySchedule.compile(List.of("Lunes 9:45-10:00"));
+
+		assertThat(first.intersects(next)).isFalse();
+		assertThat(first.intersects(otherDay)).isFalse();
+		assertThat(first.intersects(overlapping)).isTrue();
+		assertThat(first.and(overlapping).slots())
+				.containsExactly(new ScheduleSlot(DayOfWeek.MONDAY, LocalTime.of(9, 45), LocalTime.of(9, 50)));
+	}
+
+	@Test
+	void sundayNightIsTheLastSlotOfTheWeek() {
+		WeeklySchedule late = WeeklySchedule.compile(List.of("Domingo 23:00-24:00"));
+
+		assertThat(late.slots()).containsExactly(new ScheduleSlot(DayOfWeek.SUNDAY, LocalTime.of(23, 0), LocalTime.MIDNIGHT));
+		assertThat(late.intersects(WeeklySchedule.compile(List.of("Sunday 23:55-24:00")))).isTrue();
+	}
+
+	@Test
+	void periodScheduleNamesClashingSubjects() {
+		Subject calculus = subject("s1", "MAT101", "Lunes 8:00-9:50", "Miércoles 8:00-9:50");
+		Subject physics = subject("s2", "FIS101", "Miércoles 9:00-10:50");
+		Subject legacy = subject("s3", "HIS100", "por definir");
+		PeriodSchedule schedule = PeriodSchedule.compile(List.of(calculus, physics, legacy));
+
+		assertThat(schedule.conflictsWith(WeeklySchedule.compile(List.of("Lun 9:00-10:00")), null))
+				.extracting(Subject::getCode).containsExactly("MAT101");
+		assertThat(schedule.conflictsWith(WeeklySchedule.compile(List.of("Lun 9:00-10:00")), "s1")).isEmpty();
+		assertThat(schedule.conflicts()).singleElement().satisfies(conflict -> {
+			assertThat(conflict.first().getCode()).isEqualTo("MAT101");
+			assertThat(conflict.second().getCode()).isEqualTo("FIS101");
+			assertThat(conflict.overlaps()).containsExactly(
+					new ScheduleSlot(DayOfWeek.WEDNESDAY, LocalTime.of(9, 0), LocalTime.of(9, 50)));
+		});
+	}
+
+	private static Subject subject(String id, String code, String... schedule) {
+		return Subject.builder().id(id).code(code).schedule(List.of(schedule)).build();
+	}
+}
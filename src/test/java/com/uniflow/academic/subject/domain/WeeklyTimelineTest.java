@@ -0,0 +1,68 @@
+package com.uniflow.academic.subject.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WeeklyTimelineTest {
+
+	// 2025-03-10 is a Monday
+	private static final LocalDateTime MONDAY_9AM = LocalDateTime.of(2025, 3, 10, 9, 0);
+
+	private final WeeklyTimeline timeline = PeriodSchedule.compile(List.of(
+			subject("s1", "MAT101", "Lunes 8:00-9:50", "Miércoles 8:00-9:50"),
+			subject("s2", "FIS101", "Lunes 14:00-15:50"),
+			subject("s3", "QUI101", "Lunes 15:00-16:30")
+	)).timeline();
+
+	@Test
+	void currentAndNextClass() {
+		assertThat(timeline.current(MONDAY_9AM)).hasValueSatisfying(occurrence -> {
+			assertThat(occurrence.subject().getCode()).isEqualTo("MAT101");
+			assertThat(occurrence.end()).isEqualTo(LocalDateTime.of(2025, 3, 10, 9, 50));
+		});
+		assertThat(timeline.next(MONDAY_9AM)).hasValueSatisfying(occurrence -> {
+			assertThat(occurrence.subject().getCode()).isEqualTo("FIS101");
+			assertThat(occurrence.start()).isEqualTo(LocalDateTime.of(2025, 3, 10, 14, 0));
+		});
+	}
+
+	@Test
+	void nextClassWrapsToFollowingDaysAndWeek() {
+		LocalDateTime mondayEvening = LocalDateTime.of(2025, 3, 10, 18, 0);
+		assertThat(timeline.next(mondayEvening).orElseThrow().start())
+				.isEqualTo(LocalDateTime.of(2025, 3, 12, 8, 0));
+
+		LocalDateTime wednesdayEvening = LocalDateTime.of(2025, 3, 12, 18, 0);
+		assertThat(timeline.next(wednesdayEvening).orElseThrow().start())
+				.isEqualTo(LocalDateTime.of(2025, 3, 17, 8, 0));
+
+		assertThat(PeriodSchedule.EMPTY.timeline().next(MONDAY_9AM)).isEmpty();
+	}
+
+	@Test
+	void freeSlotsAreGapsBetweenMergedClasses() {
+		List<ScheduleSlot> free = timeline.freeSlots(DayOfWeek.MONDAY, LocalTime.of(7, 0), LocalTime.of(22, 0), 30);
+
+		assertThat(free).containsExactly(
+				slot(7, 0, 8, 0),
+				slot(9, 50, 14, 0),
+				slot(16, 30, 22, 0)
+		);
+		assertThat(timeline.freeSlots(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(15, 0), 30))
+				.containsExactly(slot(9, 50, 14, 0));
+	}
+
+	private static ScheduleSlot slot(int fromHour, int fromMinute, int toHour, int toMinute) {
+		return new ScheduleSlot(DayOfWeek.MONDAY, LocalTime.of(fromHour, fromMinute), LocalTime.of(toHour, toMinute));
+	}
+
+	private static Subject subject(String id, String code, String... schedule) {
+		return Subject.builder().id(id).code(code).schedule(List.of(schedule)).build();
+	}
+}
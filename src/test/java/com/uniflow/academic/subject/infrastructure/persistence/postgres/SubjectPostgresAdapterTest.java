@@ -0,0 +1,203 @@
+package com.uniflow.academic.subject.infrastructure.persistence.postgres;
+
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectFilter;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPage;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectPageRequest;
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectStatisticsResponse;
+import com.uniflow.academic.subject.domain.Subject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SubjectPostgresAdapterTest {
+
+	private static final String SUBJECT_ID = "0192f3a4-7c00-7000-8000-000000000001";
+	private static final String PERIOD_ID = "0192f3a4-7c00-7000-8000-0000000000a1";
+	private static final UUID S1 = UUID.fromString("0192f3a4-7c00-7000-8000-000000000011");
+	private static final UUID S2 = UUID.fromString("0192f3a4-7c00-7000-8000-000000000012");
+	private static final UUID S3 = UUID.fromString("0192f3a4-7c00-7000-8000-000000000013");
+
+	private SubjectJpaRepository jpaRepository;
+	private NamedParameterJdbcTemplate jdbcTemplate;
+	private SubjectPostgresAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+		jpaRepository = mock(SubjectJpaRepository.class);
+		jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+		adapter = new SubjectPostgresAdapter(jpaRepository, new SubjectEntityMapper(), jdbcTemplate);
+	}
+
+	@Test
+	void insertIfAbsentReturnsSubjectWhenRowIsInserted() {
+		when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(List.of(SUBJECT_ID));
+
+		Subject inserted = adapter.insertIfAbsent(newSubject()).orElseThrow();
+
+		assertThat(inserted.getId()).isEqualTo(SUBJECT_ID);
+		assertThat(inserted.getCreatedAt()).isNotNull();
+		verify(jpaRepository, never()).save(any());
+	}
+
+	@Test
+	void insertIfAbsentIsEmptyWhenNothingIsInserted() {
+		when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(List.of());
+
+		assertThat(adapter.insertIfAbsent(newSubject())).isEmpty();
+	}
+
+	@Test
+	void insertIfAbsentSkipsMalformedPeriodId() {
+		assertThat(adapter.insertIfAbsent(newSubject().toBuilder().periodId("period-1").build())).isEmpty();
+		verify(jdbcTemplate, never()).query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	void deleteReturnsTheDeletedRow() {
+		SubjectEntity deleted = entity(S1, LocalDateTime.of(2025, 2, 1, 10, 0));
+		when(jdbcTemplate.query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class)))
+				.thenReturn(List.of(deleted));
+
+		assertThat(adapter.delete(S1.toString(), "student-1")).map(Subject::getId).contains(S1.toString());
+		verify(jpaRepository, never()).deleteById(any());
+	}
+
+	@Test
+	void deleteOfMalformedIdMatchesNothing() {
+		assertThat(adapter.delete("subject-1", "student-1")).isEmpty();
+		verify(jdbcTemplate, never()).query(anyString(), any(MapSqlParameterSource.class), any(RowMapper.class));
+	}
+
+	@Test
+	void findAllLoadsEverySubjectOfTheStudent() {
+		LocalDateTime createdAt = LocalDateTime.of(2025, 2, 1, 10, 0);
+		when(jpaRepository.findFirstKeysetPage("student-1", null, null, null, Pageable.unpaged()))
+				.thenReturn(List.of(entity(S2, createdAt), entity(S1, createdAt)));
+
+		assertThat(adapter.findAll("student-1")).extracting(Subject::getId)
+				.containsExactly(S2.toString(), S1.toString());
+	}
+
+	@Test
+	void pageFetchesOneExtraRowToBuildNextCursor() {
+		LocalDateTime createdAt = LocalDateTime.of(2025, 2, 1, 10, 0);
+		List<SubjectEntity> rows = List.of(entity(S3, createdAt), entity(S2, createdAt), entity(S1, createdAt));
+		when(jpaRepository.findFirstKeysetPage("student-1", null, null, null, PageRequest.ofSize(3)))
+				.thenReturn(rows);
+
+		SubjectPage page = adapter.findPage("student-1", null, SubjectPageRequest.builder().limit(2).build());
+
+		assertThat(page.getData()).extracting(Subject::getId).containsExactly(S3.toString(), S2.toString());
+		assertThat(page.getHasNext()).isTrue();
+
+		adapter.findPage("student-1", null, SubjectPageRequest.builder().limit(2).after(page.getNextCursor()).build());
+
+		verify(jpaRepository).findKeysetPageAfter("student-1", null, null, null, createdAt, S2, PageRequest.ofSize(3));
+	}
+
+	@Test
+	void lastPageHasNoCursor() {
+		when(jpaRepository.findFirstKeysetPage("student-1", null, null, null, PageRequest.ofSize(3)))
+				.thenReturn(List.of(entity(S1, LocalDateTime.of(2025, 2, 1, 10, 0))));
+
+		SubjectPage page = adapter.findPage("student-1", null, SubjectPageRequest.builder().limit(2).build());
+
+		assertThat(page.getHasNext()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void statisticsFoldGroupingSets() {
+		List<SubjectStatisticsRow> rows = List.of(
+				row(0b111, null, null, null, 3, 10),
+				row(0b011, "Ana Ruiz", null, null, 2, 8),
+				row(0b011, null, null, null, 1, 2),
+				row(0b101, null, 4, null, 2, 8),
+				row(0b101, null, null, null, 1, 0),
+				row(0b110, null, null, "period-1", 3, 10)
+		);
+		when(jpaRepository.aggregateStatistics("student-1")).thenReturn(rows);
+
+		SubjectStatisticsResponse stats = adapter.getStatistics("student-1");
+
+		assertThat(stats.getTotal()).isEqualTo(3);
+		assertThat(stats.getTotalCredits()).isEqualTo(10);
+		assertThat(stats.getAverageCredits()).isEqualTo(10.0 / 3);
+		assertThat(stats.getByProfessor()).containsOnly(entry("Ana Ruiz", 2), entry("Unknown", 1));
+		assertThat(stats.getByCredits()).containsOnly(entry(4, 2));
+		assertThat(stats.getByPeriod()).containsOnly(entry("period-1", 3));
+	}
+
+	@Test
+	void statisticsMergeNullProfessorWithProfessorNamedUnknown() {
+		List<SubjectStatisticsRow> rows = List.of(
+				row(0b111, null, null, null, 3, 12),
+				row(0b011, "Unknown", null, null, 2, 8),
+				row(0b011, null, null, null, 1, 4)
+		);
+		when(jpaRepository.aggregateStatistics("student-1")).thenReturn(rows);
+
+		SubjectStatisticsResponse stats = adapter.getStatistics("student-1");
+
+		assertThat(stats.getByProfessor()).containsOnly(entry("Unknown", 3));
+	}
+
+	@Test
+	void statisticsForStudentWithoutSubjects() {
+		List<SubjectStatisticsRow> rows = List.of(row(0b111, null, null, null, 0, 0));
+		when(jpaRepository.aggregateStatistics("student-1")).thenReturn(rows);
+
+		SubjectStatisticsResponse stats = adapter.getStatistics("student-1");
+
+		assertThat(stats.getTotal()).isZero();
+		assertThat(stats.getAverageCredits()).isZero();
+		assertThat(stats.getByProfessor()).isEmpty();
+	}
+
+	private static SubjectEntity entity(UUID id, LocalDateTime createdAt) {
+		return SubjectEntity.builder().id(id).studentId("student-1").createdAt(createdAt).build();
+	}
+
+	private static SubjectStatisticsRow row(
+			int groupingSet, String professor, Integer credits, String periodId, long total, long creditSum) {
+		SubjectStatisticsRow row = mock(SubjectStatisticsRow.class);
+		when(row.getGroupingSet()).thenReturn(groupingSet);
+		when(row.getProfessor()).thenReturn(professor);
+		when(row.getCredits()).thenReturn(credits);
+		when(row.getPeriodId()).thenReturn(periodId);
+		when(row.getTotal()).thenReturn(total);
+		when(row.getCreditSum()).thenReturn(creditSum);
+		return row;
+	}
+
+	private static Subject newSubject() {
+		return Subject.builder()
+				.id(SUBJECT_ID)
+				.name("Cálculo")
+				.code("MA-1102")
+				.credits(4)
+				.periodId(PERIOD_ID)
+				.studentId("student-1")
+				.schedule(List.of())
+				.build();
+	}
+}
@@ -0,0 +1,35 @@
+package com.uniflow.academic.subject.infrastructure.persistence.postgres.converter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ListToJsonConverterTest {
+
+	private final ListToJsonConverter converter = new ListToJsonConverter();
+
+	@Test
+	void roundTripsSchedule() {
+		List<String> schedule = List.of("Monday 08:00-10:00", "Wednesday \"Lab\" 14:00-16:00");
+
+		String json = converter.convertToDatabaseColumn(schedule);
+
+		assertThat(converter.convertToEntityAttribute(json)).isEqualTo(schedule);
+	}
+
+	@Test
+	void emptyScheduleIsAnEmptyArray() {
+		assertThat(converter.convertToDatabaseColumn(null)).isEqualTo("[]");
+		assertThat(converter.convertToEntityAttribute("[]")).isEmpty();
+		assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+	}
+
+	@Test
+	void nonArrayJsonIsReportedInsteadOfDropped() {
+		assertThatThrownBy(() -> converter.convertToEntityAttribute("{\"day\":\"Monday\"}"))
+				.isInstanceOf(IllegalStateException.class);
+	}
+}
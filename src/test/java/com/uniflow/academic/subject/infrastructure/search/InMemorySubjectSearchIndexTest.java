@@ -0,0 +1,124 @@
+package com.uniflow.academic.subject.infrastructure.search;
+
+import com.uniflow.academic.subject.application.ports.out.dto.SubjectFilter;
+import com.uniflow.academic.subject.domain.Subject;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemorySubjectSearchIndexTest {
+
+	private static final String STUDENT = "student-1";
+
+	private InMemorySubjectSearchIndex index;
+	private final AtomicInteger loads = new AtomicInteger();
+	private final AtomicLong ticker = new AtomicLong();
+	private final List<Subject> stored = List.of(
+			subject("s1", "Cálculo Diferencial", "MAT101", "Ana Ruiz", "period-1", 1),
+			subject("s2", "Cálculo Integral", "MAT102", "Luis Pérez", "period-2", 2),
+			subject("s3", "Programación", "INF201", "Ana Ruiz", "period-1", 3)
+	);
+
+	@BeforeEach
+	void setUp() {
+		index = new InMemorySubjectSearchIndex(
+				100, Duration.ofMinutes(15), Duration.ofMinutes(10), new SimpleMeterRegistry(), ticker::get);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void prefixAccentAndCodeMatchesLoadOnce() {
+		assertThat(ids("calc")).containsExactly("s2", "s1");
+		assertThat(ids("mat101")).containsExactly("s1");
+		assertThat(ids("101")).containsExactly("s1");
+		assertThat(ids("ruiz prog")).containsExactly("s3");
+
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void toleratesTyposAndRanksExactMatchesFirst() {
+		assertThat(ids("integarl")).containsExactly("s2");
+		assertThat(ids("progra")).containsExactly("s3");
+		assertThat(ids("clacu")).containsExactly("s2", "s1");
+		assertThat(ids("xyz")).isEmpty();
+	}
+
+	@Test
+	void otherFiltersApplyToMatches() {
+		SubjectFilter filter = SubjectFilter.builder().search("calculo").periodId("period-2").build();
+
+		assertThat(index.search(STUDENT, filter, this::load)).extracting(Subject::getId).containsExactly("s2");
+	}
+
+	@Test
+	void indexIsReloadedAfterMaxAgeEvenWhileInUse() {
+		ids("calc");
+		for (int minute = 1; minute < 10; minute++) {
+			ticker.set(Duration.ofMinutes(minute).toNanos());
+			ids("calc");
+			index.index(subject("s" + (10 + minute), "Física", "FIS10" + minute, "Ana Ruiz", "period-1", 10 + minute));
+		}
+		assertThat(loads).hasValue(1);
+
+		ticker.set(Duration.ofMinutes(10).toNanos());
+		ids("calc");
+
+		assertThat(loads).hasValue(2);
+	}
+
+	@Test
+	void writesApplyAfterCommit() {
+		ids("calc");
+		TransactionSynchronizationManager.initSynchronization();
+
+		index.index(subject("s4", "Cálculo Vectorial", "MAT201", "Ana Ruiz", "period-3", 4));
+		index.remove(STUDENT, "s1");
+		assertThat(ids("calc")).containsExactly("s2", "s1");
+
+		TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		assertThat(ids("calc")).containsExactly("s4", "s2");
+		assertThat(loads).hasValue(1);
+	}
+
+	private List<String> ids(String search) {
+		return index.search(STUDENT, SubjectFilter.builder().search(search).build(), this::load).stream()
+				.map(Subject::getId)
+				.toList();
+	}
+
+	private List<Subject> load(String studentId) {
+		loads.incrementAndGet();
+		return stored;
+	}
+
+	private static Subject subject(String id, String name, String code, String professor, String periodId, int day) {
+		return Subject.builder()
+				.id(id)
+				.name(name)
+				.code(code)
+				.professor(professor)
+				.credits(4)
+				.periodId(periodId)
+				.studentId(STUDENT)
+				.createdAt(LocalDateTime.of(2025, 1, day, 10, 0))
+				.build();
+	}
+}